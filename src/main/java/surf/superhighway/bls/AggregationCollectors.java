@@ -0,0 +1,85 @@
+package surf.superhighway.bls;
+
+import supranational.blst.P1;
+import supranational.blst.P2;
+
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s that aggregate streams of signatures or public keys.
+ * <p>
+ * Each collector sums into its own mutable accumulator and combines accumulators pairwise, so it is correct
+ * under {@code parallelStream()} and never touches the points of the collected elements. Aggregation is
+ * commutative, so the collectors are unordered. An empty stream aggregates to the point at infinity.
+ * </p>
+ * <p>
+ * Unlike {@link SignatureScheme#aggregatePublicKeys(java.util.List)}, the collectors do not reject an invalid aggregate;
+ * the result is known to be valid only when every element was, otherwise {@code isValid()} checks it on demand.
+ * </p>
+ */
+public final class AggregationCollectors {
+
+    private AggregationCollectors() {
+        throw new AssertionError("AggregationCollectors class should not be instantiated.");
+    }
+
+    /**
+     * @return A collector summing signatures into their aggregate.
+     */
+    public static Collector<Signature, ?, Signature> toAggregateSignature() {
+        return Collector.of(SignatureSum::new, SignatureSum::add, SignatureSum::combine, SignatureSum::toSignature, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * @return A collector summing public keys into their aggregate.
+     */
+    public static Collector<PublicKey, ?, PublicKey> toAggregatePublicKey() {
+        return Collector.of(PublicKeySum::new, PublicKeySum::add, PublicKeySum::combine, PublicKeySum::toPublicKey, Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Mutable partial sum of signatures.
+     */
+    static final class SignatureSum {
+        private final P2 point = new P2();
+        private boolean validated = true;
+
+        void add(Signature signature) {
+            point.add(signature.point);
+            validated &= signature.isValidated();
+        }
+
+        SignatureSum combine(SignatureSum other) {
+            point.add(other.point);
+            validated &= other.validated;
+            return this;
+        }
+
+        Signature toSignature() {
+            return new Signature(point, validated);
+        }
+    }
+
+    /**
+     * Mutable partial sum of public keys.
+     */
+    static final class PublicKeySum {
+        private final P1 point = new P1();
+        private boolean validated = true;
+
+        void add(PublicKey publicKey) {
+            point.add(publicKey.point);
+            validated &= publicKey.isValidated();
+        }
+
+        PublicKeySum combine(PublicKeySum other) {
+            point.add(other.point);
+            validated &= other.validated;
+            return this;
+        }
+
+        PublicKey toPublicKey() {
+            return new PublicKey(point, validated);
+        }
+    }
+}
@@ -2,10 +2,10 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 
 public class BasicSignatureScheme extends CoreSignatureScheme {
     private BasicSignatureScheme() {
@@ -17,17 +17,20 @@ public class BasicSignatureScheme extends CoreSignatureScheme {
     }
 
     /**
-     * Verify BLS signature against their corresponding messages and public keys.
-     * This first makes sure all messages are unique before invoking the core aggregate vrify function.
+     * Verify BLS signature against their corresponding messages and public keys, splitting the Miller loops
+     * across the workers of the given pool.
+     * This first makes sure all messages are unique, since the Miller loops run out of order, before invoking the
+     * core parallel aggregate verify function.
      *
      * @param publicKeys A list of public keys corresponding to the signers of the messages.
      * @param messages   A list of messages that were signed. The order of messages should match the order of public keys.
      * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @param pool       The pool whose workers run the Miller loops.
      * @return Returns true if the aggregated signature verification is successful; false otherwise.
      * @throws IllegalArgumentException If the size of the public keys list does not match the size of the messages list or if any of the arguments is null.
      */
     @Override
-    public boolean aggregateVerify(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature) {
+    public boolean aggregateVerifyParallel(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature, final ForkJoinPool pool) {
         if (Objects.isNull(publicKeys)) {
             throw new IllegalArgumentException("publicKey list cannot be null");
         }
@@ -49,13 +52,39 @@ public class BasicSignatureScheme extends CoreSignatureScheme {
             return argCheck == InvariantResult.GOOD;
         }
 
-
-        final Set<Bytes> uniqueMessages = new HashSet<>(messages);
-        if (uniqueMessages.size() != messages.size()) {
+        if (!hasUniqueMessages(messages)) {
             return false;
         }
 
-        return super.aggregateVerify(publicKeys, messages, signature);
+        return super.aggregateVerifyParallel(publicKeys, messages, signature, pool);
+    }
+
+    /**
+     * Rejects a message that already appeared in the same verification, as required by the basic scheme.
+     * The check has to remember every message it has seen, so for streamed pairs, unlike the other schemes,
+     * memory use grows with the number of pairs.
+     *
+     * @return A check accepting each distinct message once.
+     */
+    @Override
+    Predicate<Bytes> newMessageCheck(int expectedSize, boolean copyMessages) {
+        return new DistinctMessageFilter(expectedSize, copyMessages);
+    }
+
+    /**
+     * Checks that no message appears more than once, as required by the basic scheme.
+     *
+     * @param messages The messages to check.
+     * @return true if all messages are distinct, false otherwise.
+     */
+    private static boolean hasUniqueMessages(final List<Bytes> messages) {
+        DistinctMessageFilter distinctMessages = new DistinctMessageFilter(messages.size(), false);
+        for (Bytes message : messages) {
+            if (!distinctMessages.test(message)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static class Holder {
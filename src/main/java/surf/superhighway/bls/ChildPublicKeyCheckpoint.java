@@ -0,0 +1,176 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes48;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An append-only file of the unhardened child public keys of one parent key, for indexes 0 to {@code size() - 1}.
+ * <p>
+ * File layout, all integers big-endian: magic (8 bytes), version (4 bytes), the parent's compressed encoding,
+ * then the compressed encoding of every child in index order. A header or record left incomplete by a crash is
+ * dropped when the file is reopened. An open checkpoint holds an exclusive lock on its file, so two ranges cannot
+ * append to it at the same time. Keys read back are decoded but not subgroup-checked; {@code isValid()} checks
+ * them on demand.
+ * </p>
+ */
+final class ChildPublicKeyCheckpoint implements AutoCloseable {
+
+    private static final long MAGIC = 0x424C53434B505431L; // "BLSCKPT1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12 + PublicKey.SIZE;
+
+    private final FileChannel channel;
+    private long size;
+
+    private ChildPublicKeyCheckpoint(FileChannel channel, long size) {
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * Opens the checkpoint file of a parent key, creating it if it does not exist.
+     *
+     * @param path      The checkpoint file.
+     * @param parentKey The parent key the file must belong to.
+     * @return The open checkpoint.
+     * @throws IOException if the file cannot be opened, is in use by another checkpoint, is not a checkpoint or
+     *                     belongs to another parent key.
+     */
+    static ChildPublicKeyCheckpoint open(Path path, PublicKey parentKey) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            lock(channel);
+            byte[] parentBytes = parentKey.serialize().toArrayUnsafe();
+
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer expected = ByteBuffer.allocate(HEADER_SIZE).putLong(MAGIC).putInt(VERSION).put(parentBytes).flip();
+
+                // A new file, or a header cut short by a crash: start over, unless the bytes belong to something else
+                ByteBuffer partial = ByteBuffer.allocate((int) channel.size());
+                readFully(channel, partial, 0);
+                if (!Arrays.equals(partial.array(), 0, partial.capacity(), expected.array(), 0, partial.capacity())) {
+                    throw new IOException("Not a child public key checkpoint file");
+                }
+
+                writeFully(channel, expected, 0);
+                return new ChildPublicKeyCheckpoint(channel, 0);
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header, 0);
+            if (header.getLong(0) != MAGIC) {
+                throw new IOException("Not a child public key checkpoint file");
+            }
+
+            if (header.getInt(8) != VERSION) {
+                throw new IOException("Unsupported child public key checkpoint version " + header.getInt(8));
+            }
+
+            if (!Arrays.equals(header.array(), 12, HEADER_SIZE, parentBytes, 0, PublicKey.SIZE)) {
+                throw new IOException("Checkpoint file belongs to a different parent key");
+            }
+
+            long size = (channel.size() - HEADER_SIZE) / PublicKey.SIZE;
+            channel.truncate(HEADER_SIZE + size * PublicKey.SIZE);
+            return new ChildPublicKeyCheckpoint(channel, size);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return The number of children stored, which are those of indexes 0 to size - 1.
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * Reads stored children.
+     *
+     * @param from  The index of the first child.
+     * @param count The number of children, all below {@link #size()}.
+     * @return The children in index order.
+     * @throws IOException if the file cannot be read or holds an invalid encoding.
+     */
+    PublicKey[] read(long from, int count) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(count * PublicKey.SIZE);
+        readFully(channel, records, HEADER_SIZE + from * PublicKey.SIZE);
+
+        PublicKey[] publicKeys = new PublicKey[count];
+        for (int i = 0; i < count; i++) {
+            Bytes48 encoding = Bytes48.wrap(records.array(), i * PublicKey.SIZE);
+            try {
+                publicKeys[i] = PublicKey.fromBytesUnchecked(encoding);
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Corrupt child public key at index " + (from + i), ex);
+            }
+        }
+        return publicKeys;
+    }
+
+    /**
+     * Appends the children following the last stored one.
+     *
+     * @param publicKeys The children of indexes {@link #size()} onwards, in index order.
+     * @throws IOException if the file cannot be written.
+     */
+    void append(PublicKey[] publicKeys) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(publicKeys.length * PublicKey.SIZE);
+        for (PublicKey publicKey : publicKeys) {
+            records.put(publicKey.serialize().toArrayUnsafe());
+        }
+        records.flip();
+
+        writeFully(channel, records, HEADER_SIZE + size * PublicKey.SIZE);
+        size += publicKeys.length;
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void lock(FileChannel channel) throws IOException {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            // Held by another checkpoint of this JVM
+            lock = null;
+        }
+
+        if (Objects.isNull(lock)) {
+            throw new IOException("Checkpoint file is in use by another range");
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of checkpoint file");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
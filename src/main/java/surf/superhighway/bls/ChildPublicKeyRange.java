@@ -0,0 +1,145 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt32;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/**
+ * Yields the unhardened children of a parent key over a range of indexes, in order.
+ * <p>
+ * Children are produced in batches. While the caller consumes one batch, the next is derived on the pool, so
+ * derivation overlaps with whatever the caller does with the keys. With a checkpoint, children already stored are
+ * read back instead of derived, and every newly derived batch extending the stored prefix is appended to it before
+ * being handed out.
+ * </p>
+ */
+final class ChildPublicKeyRange implements Iterator<PublicKey>, AutoCloseable {
+
+    static final int BATCH_SIZE = 256;
+
+    private final CoreSignatureScheme scheme;
+    private final PublicKey parentKey;
+    private final long end;
+    private final ForkJoinPool pool;
+    private final ChildPublicKeyCheckpoint checkpoint;
+
+    private long nextBatchStart;
+    private ForkJoinTask<PublicKey[]> nextBatch;
+    private PublicKey[] batch = new PublicKey[0];
+    private int position;
+
+    ChildPublicKeyRange(CoreSignatureScheme scheme, PublicKey parentKey, long from, long end, ForkJoinPool pool, ChildPublicKeyCheckpoint checkpoint) {
+        this.scheme = scheme;
+        this.parentKey = parentKey;
+        this.end = end;
+        this.pool = pool;
+        this.checkpoint = checkpoint;
+        this.nextBatchStart = from;
+        this.nextBatch = deriveNextBatch();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < batch.length || Objects.nonNull(nextBatch);
+    }
+
+    @Override
+    public PublicKey next() {
+        if (position == batch.length) {
+            if (Objects.isNull(nextBatch)) {
+                throw new NoSuchElementException();
+            }
+            takeNextBatch();
+        }
+
+        return batch[position++];
+    }
+
+    /**
+     * Closes the checkpoint, if any. A batch still being derived is discarded.
+     *
+     * @throws UncheckedIOException if the checkpoint cannot be closed.
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(nextBatch)) {
+            nextBatch.cancel(false);
+            nextBatch = null;
+        }
+
+        if (Objects.nonNull(checkpoint)) {
+            try {
+                checkpoint.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    private void takeNextBatch() {
+        long batchStart = nextBatchStart;
+        PublicKey[] derived = nextBatch.join();
+        nextBatch = null;
+
+        try {
+            if (Objects.nonNull(checkpoint)) {
+                long stored = checkpoint.size();
+                int fromCheckpoint = (int) Math.max(0, Math.min(derived.length, stored - batchStart));
+                if (fromCheckpoint > 0) {
+                    System.arraycopy(checkpoint.read(batchStart, fromCheckpoint), 0, derived, 0, fromCheckpoint);
+                }
+
+                if (batchStart + fromCheckpoint == stored && fromCheckpoint < derived.length) {
+                    PublicKey[] extension = derived;
+                    if (fromCheckpoint > 0) {
+                        extension = new PublicKey[derived.length - fromCheckpoint];
+                        System.arraycopy(derived, fromCheckpoint, extension, 0, extension.length);
+                    }
+                    checkpoint.append(extension);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        batch = derived;
+        position = 0;
+        nextBatchStart = batchStart + derived.length;
+        nextBatch = deriveNextBatch();
+    }
+
+    private static UInt32 childIndex(long index) {
+        return UInt32.fromBytes(Bytes.ofUnsignedInt(index));
+    }
+
+    /**
+     * Starts deriving the batch at {@code nextBatchStart}, skipping children the checkpoint already holds.
+     *
+     * @return The running derivation, or null once the range is exhausted. Entries left for the checkpoint are null.
+     */
+    private ForkJoinTask<PublicKey[]> deriveNextBatch() {
+        long batchStart = nextBatchStart;
+        if (batchStart >= end) {
+            return null;
+        }
+
+        int count = (int) Math.min(BATCH_SIZE, end - batchStart);
+        // Children below this index are read from the checkpoint when the batch is taken
+        long deriveFrom = Objects.isNull(checkpoint) ? batchStart : Math.min(batchStart + count, Math.max(batchStart, checkpoint.size()));
+
+        return pool.submit(() -> {
+            PublicKey[] publicKeys = new PublicKey[count];
+            IntStream.range((int) (deriveFrom - batchStart), count).parallel().forEach(i ->
+                    publicKeys[i] = scheme.deriveChildPublicKeyUnhardened(parentKey, childIndex(batchStart + i)));
+            return publicKeys;
+        });
+    }
+}
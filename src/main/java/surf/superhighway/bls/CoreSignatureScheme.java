@@ -2,23 +2,79 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.bytes.Bytes48;
 import org.apache.tuweni.units.bigints.UInt32;
 import surf.superhighway.util.Util;
 import supranational.blst.*;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public abstract class CoreSignatureScheme implements SignatureScheme {
 
+    /**
+     * Bit length of the random scalars used to weight signatures in {@link #verifyBatch(List, List, List)}.
+     */
+    static final int BATCH_RANDOM_BITS = 64;
+
+    /**
+     * Smallest number of (public key, message) pairs a single worker of
+     * {@link #aggregateVerifyParallel(List, List, Signature, ForkJoinPool)} accumulates on its own.
+     */
+    static final int PARALLEL_MIN_SLICE_SIZE = 32;
+
+    /**
+     * Smallest number of points a single worker of {@link #aggregateSignaturesParallel(List, ForkJoinPool)} or
+     * {@link #aggregatePublicKeysParallel(List, ForkJoinPool)} sums on its own. Point additions are cheap, so slices
+     * are much larger than for Miller loops.
+     */
+    static final int PARALLEL_MIN_SUM_SLICE_SIZE = 512;
+
+    private static final SecureRandom BATCH_RANDOM = new SecureRandom();
+
     final CipherSuiteID cipherSuiteID;
 
+    private volatile HashToCurveCache hashToCurveCache;
+
     CoreSignatureScheme(CipherSuiteID cipherSuiteID) {
         this.cipherSuiteID = cipherSuiteID;
     }
 
+    /**
+     * Installs a cache of hashed messages that {@link #sign(PrivateKey, Bytes)} and
+     * {@link #verify(PublicKey, Bytes, Signature)} consult before hashing to G2.
+     * Since schemes are singletons, the cache applies to every user of this scheme.
+     *
+     * @param hashToCurveCache The cache to use, or null to hash every message again.
+     */
+    public void setHashToCurveCache(final HashToCurveCache hashToCurveCache) {
+        this.hashToCurveCache = hashToCurveCache;
+    }
+
+    /**
+     * @return The installed cache of hashed messages, or null if there is none.
+     */
+    public HashToCurveCache getHashToCurveCache() {
+        return hashToCurveCache;
+    }
+
     /**
      * Generates a PrivateKey based on a given seed.
      *
@@ -57,6 +113,48 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
         return privateKey.getPublicKey();
     }
 
+    /**
+     * Derives the public keys of many private keys, splitting the work across the common pool.
+     *
+     * @param privateKeys The private keys.
+     * @return The validated public keys, in the order of the private keys.
+     * @throws IllegalArgumentException if the list is null or contains null.
+     */
+    public List<PublicKey> derivePublicKeys(final List<PrivateKey> privateKeys) {
+        return derivePublicKeys(privateKeys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Derives the public keys of many private keys, splitting the work across the workers of the given pool.
+     * Each key is computed from its secret scalar, so it is known to be valid and is never subgroup-checked.
+     * Its affine form and compressed encoding are computed on the workers too, so callers storing or
+     * fingerprinting the keys do not pay for them afterwards.
+     *
+     * @param privateKeys The private keys.
+     * @param pool        The pool whose workers run the scalar multiplications.
+     * @return The validated public keys, in the order of the private keys.
+     * @throws IllegalArgumentException if the list is null or contains null, or pool is null.
+     */
+    public List<PublicKey> derivePublicKeys(final List<PrivateKey> privateKeys, final ForkJoinPool pool) {
+        if (Objects.isNull(privateKeys)) {
+            throw new IllegalArgumentException("privateKey list cannot be null");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
+
+        if (privateKeys.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("privateKey list cannot contain null");
+        }
+
+        PublicKey[] publicKeys = new PublicKey[privateKeys.size()];
+        int sliceSize = Math.max(PARALLEL_MIN_SLICE_SIZE, privateKeys.size() / (pool.getParallelism() * 4));
+        pool.invoke(new DerivePublicKeysTask(privateKeys, publicKeys, 0, publicKeys.length, sliceSize));
+
+        return List.of(publicKeys);
+    }
+
     /**
      * Sign the given message using the specified private key and the associated cipher suite.
      *
@@ -75,7 +173,82 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
             throw new IllegalArgumentException("message cannot be null");
         }
 
-        return privateKey.signG2(message, cipherSuiteID.getStringValue());
+        return signAugmented(privateKey, message, Bytes.EMPTY);
+    }
+
+    /**
+     * Creates a handle that signs with the given key under this scheme. The public key, and any augmentation
+     * derived from it, are computed once instead of on every signature, which suits keys that sign continuously.
+     *
+     * @param privateKey The private key to sign with.
+     * @return A {@link Signer} for the key.
+     * @throws IllegalArgumentException if privateKey is null.
+     */
+    public Signer signer(final PrivateKey privateKey) {
+        if (Objects.isNull(privateKey)) {
+            throw new IllegalArgumentException("privateKey cannot be null");
+        }
+
+        return new Signer(this, privateKey);
+    }
+
+    /**
+     * Signs a message prefixed with augmentation bytes, without concatenating them.
+     *
+     * @param privateKey   The private key.
+     * @param message      The message.
+     * @param augmentation The bytes hashed ahead of the message, empty for none.
+     * @return The {@link Signature} of the augmented message.
+     */
+    Signature signAugmented(PrivateKey privateKey, Bytes message, Bytes augmentation) {
+        HashToCurveCache cache = hashToCurveCache;
+        if (Objects.nonNull(cache)) {
+            return privateKey.signHashed(cache.hashToG2(cipherSuiteID, augmentation, message));
+        }
+
+        return privateKey.signG2(message, cipherSuiteID.getStringValue(), augmentation.toArrayUnsafe());
+    }
+
+    /**
+     * Sign the given message using the specified private key and the associated cipher suite.
+     * The array is handed to blst as is, without copying.
+     *
+     * @param privateKey the private key to be used for signing the message.
+     * @param message    the message to be signed. It is not modified.
+     * @return the {@link Signature} of the message.
+     * @throws IllegalArgumentException if either privateKey or message is null.
+     */
+    public Signature sign(final PrivateKey privateKey, final byte[] message) {
+        return sign(privateKey, wrap(message));
+    }
+
+    /**
+     * Sign a slice of the given array using the specified private key and the associated cipher suite.
+     * blst only accepts whole arrays, so a slice that does not span the whole array is copied once.
+     *
+     * @param privateKey the private key to be used for signing the message.
+     * @param message    the array holding the message to be signed. It is not modified.
+     * @param offset     the index of the first byte of the message.
+     * @param length     the length of the message.
+     * @return the {@link Signature} of the message.
+     * @throws IllegalArgumentException if either privateKey or message is null, or the slice is out of bounds.
+     */
+    public Signature sign(final PrivateKey privateKey, final byte[] message, int offset, int length) {
+        return sign(privateKey, wrap(message, offset, length));
+    }
+
+    /**
+     * Sign the remaining bytes of the given buffer using the specified private key and the associated cipher suite.
+     * The buffer's position is not changed. A heap buffer spanning its whole backing array is handed to blst
+     * without copying; other buffers, including direct ones, are copied once since blst only accepts arrays.
+     *
+     * @param privateKey the private key to be used for signing the message.
+     * @param message    the buffer holding the message to be signed.
+     * @return the {@link Signature} of the message.
+     * @throws IllegalArgumentException if either privateKey or message is null.
+     */
+    public Signature sign(final PrivateKey privateKey, final ByteBuffer message) {
+        return sign(privateKey, wrap(message));
     }
 
 
@@ -102,10 +275,52 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
             throw new IllegalArgumentException("signature cannot be null");
         }
 
-        P1_Affine pkAffine = publicKey.point.to_affine();
-        P2_Affine sigAffine = signature.point.to_affine();
+        return verifyHashed(publicKey, hashToG2(augmentation(publicKey), message), signature);
+    }
 
-        return sigAffine.core_verify(pkAffine, true, message.toArray(), cipherSuiteID.getStringValue()) == BLST_ERROR.BLST_SUCCESS;
+    /**
+     * Verifies the signature of a message using the provided public key.
+     * The array is handed to blst as is, without copying.
+     *
+     * @param publicKey the public key used for verification.
+     * @param message   the message whose signature is to be verified. It is not modified.
+     * @param signature the signature to be verified.
+     * @return true if the signature is valid, false otherwise.
+     * @throws IllegalArgumentException if any of the arguments is null.
+     */
+    public boolean verify(final PublicKey publicKey, final byte[] message, final Signature signature) {
+        return verify(publicKey, wrap(message), signature);
+    }
+
+    /**
+     * Verifies the signature of a slice of the given array using the provided public key.
+     * blst only accepts whole arrays, so a slice that does not span the whole array is copied once.
+     *
+     * @param publicKey the public key used for verification.
+     * @param message   the array holding the message whose signature is to be verified. It is not modified.
+     * @param offset    the index of the first byte of the message.
+     * @param length    the length of the message.
+     * @param signature the signature to be verified.
+     * @return true if the signature is valid, false otherwise.
+     * @throws IllegalArgumentException if any of the arguments is null, or the slice is out of bounds.
+     */
+    public boolean verify(final PublicKey publicKey, final byte[] message, int offset, int length, final Signature signature) {
+        return verify(publicKey, wrap(message, offset, length), signature);
+    }
+
+    /**
+     * Verifies the signature of the remaining bytes of the given buffer using the provided public key.
+     * The buffer's position is not changed. A heap buffer spanning its whole backing array is handed to blst
+     * without copying; other buffers, including direct ones, are copied once since blst only accepts arrays.
+     *
+     * @param publicKey the public key used for verification.
+     * @param message   the buffer holding the message whose signature is to be verified.
+     * @param signature the signature to be verified.
+     * @return true if the signature is valid, false otherwise.
+     * @throws IllegalArgumentException if any of the arguments is null.
+     */
+    public boolean verify(final PublicKey publicKey, final ByteBuffer message, final Signature signature) {
+        return verify(publicKey, wrap(message), signature);
     }
 
     /**
@@ -125,9 +340,49 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
             throw new IllegalArgumentException("List of signatures cannot be empty");
         }
 
-        P2 aggregated = signatures.stream().map(signature -> signature.point).reduce(new P2(), P2::add);
+        // Sum into one accumulator, the result stays in projective form
+        AggregationCollectors.SignatureSum sum = new AggregationCollectors.SignatureSum();
+        signatures.forEach(sum::add);
+
+        return sum.toSignature();
+    }
+
+    /**
+     * Aggregates multiple signatures into a single signature, summing slices of the list on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param signatures the list of signatures to aggregate.
+     * @return the aggregated {@link Signature}.
+     * @throws IllegalArgumentException if the list of signatures is empty or null.
+     * @see #aggregateSignaturesParallel(List, ForkJoinPool)
+     */
+    public Signature aggregateSignaturesParallel(final List<Signature> signatures) {
+        return aggregateSignaturesParallel(signatures, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates multiple signatures into a single signature, summing slices of the list on the workers of the
+     * given pool and adding the partial sums pairwise on the way back up.
+     *
+     * @param signatures the list of signatures to aggregate.
+     * @param pool       the pool whose workers sum the slices.
+     * @return the aggregated {@link Signature}.
+     * @throws IllegalArgumentException if the list of signatures is empty or null, or if pool is null.
+     */
+    public Signature aggregateSignaturesParallel(final List<Signature> signatures, final ForkJoinPool pool) {
+        if (Objects.isNull(signatures)) {
+            throw new IllegalArgumentException("List of signatures cannot be null");
+        }
+
+        if (signatures.isEmpty()) {
+            throw new IllegalArgumentException("List of signatures cannot be empty");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
 
-        return new Signature(aggregated);
+        return parallelSum(signatures, AggregationCollectors.toAggregateSignature(), pool);
     }
 
     /**
@@ -135,7 +390,8 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
      *
      * @param publicKeys the list of public keys to aggregate.
      * @return the aggregated {@link PublicKey}.
-     * @throws IllegalArgumentException if the list of public keys is empty or null.
+     * @throws IllegalArgumentException if the list of public keys is empty or null, or if the aggregate is not a valid
+     *                                  element of G1.
      */
     @Override
     public PublicKey aggregatePublicKeys(final List<PublicKey> publicKeys) {
@@ -147,9 +403,66 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
             throw new IllegalArgumentException("List of public keys cannot be empty");
         }
 
-        P1 aggregated = publicKeys.stream().map(publicKey -> publicKey.point).reduce(new P1(), P1::add);
+        // Sum into one accumulator, the result stays in projective form
+        AggregationCollectors.PublicKeySum sum = new AggregationCollectors.PublicKeySum();
+        publicKeys.forEach(sum::add);
 
-        return PublicKey.fromBytes(Bytes48.wrap(aggregated.compress()));
+        return requireValid(sum.toPublicKey());
+    }
+
+    /**
+     * Aggregates multiple public keys into a single public key, summing slices of the list on the common
+     * {@link ForkJoinPool}.
+     *
+     * @param publicKeys the list of public keys to aggregate.
+     * @return the aggregated {@link PublicKey}.
+     * @throws IllegalArgumentException if the list of public keys is empty or null, or if the aggregate is not a valid
+     *                                  element of G1.
+     * @see #aggregatePublicKeysParallel(List, ForkJoinPool)
+     */
+    public PublicKey aggregatePublicKeysParallel(final List<PublicKey> publicKeys) {
+        return aggregatePublicKeysParallel(publicKeys, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Aggregates multiple public keys into a single public key, summing slices of the list on the workers of the
+     * given pool and adding the partial sums pairwise on the way back up.
+     *
+     * @param publicKeys the list of public keys to aggregate.
+     * @param pool       the pool whose workers sum the slices.
+     * @return the aggregated {@link PublicKey}.
+     * @throws IllegalArgumentException if the list of public keys is empty or null, if pool is null, or if the
+     *                                  aggregate is not a valid element of G1.
+     */
+    public PublicKey aggregatePublicKeysParallel(final List<PublicKey> publicKeys, final ForkJoinPool pool) {
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("List of publicKeys cannot be null");
+        }
+
+        if (publicKeys.isEmpty()) {
+            throw new IllegalArgumentException("List of public keys cannot be empty");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
+
+        return requireValid(parallelSum(publicKeys, AggregationCollectors.toAggregatePublicKey(), pool));
+    }
+
+    // A sum of valid keys is valid, only sums involving unchecked keys need the subgroup check
+    private static PublicKey requireValid(PublicKey aggregatedPublicKey) {
+        if (!aggregatedPublicKey.isValid()) {
+            throw new IllegalArgumentException("PublicKey is invalid");
+        }
+
+        return aggregatedPublicKey;
+    }
+
+    private static <T, A, R> R parallelSum(List<T> elements, Collector<T, A, R> collector, ForkJoinPool pool) {
+        int sliceSize = Math.max(PARALLEL_MIN_SUM_SLICE_SIZE, elements.size() / (pool.getParallelism() * 4));
+
+        return collector.finisher().apply(pool.invoke(new SumTask<>(elements, collector, 0, elements.size(), sliceSize)));
     }
 
     /**
@@ -185,23 +498,291 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
             return argCheck == InvariantResult.GOOD;
         }
 
+        // The signature is checked once here instead of once per pair
+        if (!signature.isValid()) {
+            return false;
+        }
+
+        Predicate<Bytes> messageCheck = newMessageCheck(messages.size(), false);
+        Pairing pairing = new Pairing(true, cipherSuiteID.getStringValue());
+
+        for (int i = 0; i < publicKeys.size(); i++) {
+            Bytes message = messages.get(i);
+            if (!messageCheck.test(message) || !aggregatePair(pairing, publicKeys.get(i), message)) {
+                return false;
+            }
+        }
+
+        pairing.commit();
+        return pairing.finalverify(new PT(signature.toAffine()));
+    }
+
+    /**
+     * Verify BLS signature against their corresponding messages and public keys.
+     * The message arrays are handed to blst as they are, without copying.
+     *
+     * @param publicKeys A list of public keys corresponding to the signers of the messages.
+     * @param messages   The messages that were signed, in the order of the public keys. They are not modified.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @return Returns true if the aggregated signature verification is successful; false otherwise.
+     * @throws IllegalArgumentException If the number of public keys does not match the number of messages or if any of the arguments is null.
+     */
+    public boolean aggregateVerify(final List<PublicKey> publicKeys, final byte[][] messages, final Signature signature) {
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message list cannot be null");
+        }
+
+        List<Bytes> wrappedMessages = new ArrayList<>(messages.length);
+        for (byte[] message : messages) {
+            wrappedMessages.add(wrap(message));
+        }
+
+        return aggregateVerify(publicKeys, wrappedMessages, signature);
+    }
+
+    /**
+     * Verify BLS signature against their corresponding messages and public keys, splitting the Miller loops
+     * across the common {@link ForkJoinPool}.
+     *
+     * @param publicKeys A list of public keys corresponding to the signers of the messages.
+     * @param messages   A list of messages that were signed. The order of messages should match the order of public keys.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @return Returns true if the aggregated signature verification is successful; false otherwise.
+     * @throws IllegalArgumentException If the size of the public keys list does not match the size of the messages list or if any of the arguments is null.
+     * @see #aggregateVerifyParallel(List, List, Signature, ForkJoinPool)
+     */
+    public boolean aggregateVerifyParallel(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature) {
+        return aggregateVerifyParallel(publicKeys, messages, signature, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Verify BLS signature against their corresponding messages and public keys, splitting the Miller loops
+     * across the workers of the given pool.
+     * <p>
+     * Slices of the (public key, message) pairs are accumulated into separate {@link Pairing} contexts, which are
+     * merged pairwise on the way back up and settled with a single final verification. As soon as one worker
+     * rejects a pair, the remaining workers stop accumulating.
+     * </p>
+     *
+     * @param publicKeys A list of public keys corresponding to the signers of the messages.
+     * @param messages   A list of messages that were signed. The order of messages should match the order of public keys.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @param pool       The pool whose workers run the Miller loops.
+     * @return Returns true if the aggregated signature verification is successful; false otherwise.
+     * @throws IllegalArgumentException If the size of the public keys list does not match the size of the messages list or if any of the arguments is null.
+     */
+    public boolean aggregateVerifyParallel(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature, final ForkJoinPool pool) {
+
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("publicKey list cannot be null");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message list cannot be null");
+        }
+
+        if (Objects.isNull(signature)) {
+            throw new IllegalArgumentException("signature cannot be null");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
+
+        if (publicKeys.size() != messages.size()) {
+            throw new IllegalArgumentException("Mismatched sizes for public keys and messages");
+        }
+
+        InvariantResult argCheck = verifyAggregateSignatureArguments(publicKeys.size(), messages.size(), signature);
+        if (argCheck != InvariantResult.CONTINUE) {
+            return argCheck == InvariantResult.GOOD;
+        }
+
+        if (!signature.isValid()) {
+            return false;
+        }
+
+        int sliceSize = Math.max(PARALLEL_MIN_SLICE_SIZE, publicKeys.size() / (pool.getParallelism() * 4));
+
+        Pairing pairing = pool.invoke(new AggregateVerifyTask(publicKeys, messages, 0, publicKeys.size(), sliceSize, new AtomicBoolean()));
+        if (Objects.isNull(pairing)) {
+            return false;
+        }
+
+        return pairing.finalverify(new PT(signature.toAffine()));
+    }
+
+    /**
+     * Verify BLS signature against public keys and messages pulled from streams, without materializing them.
+     *
+     * @param publicKeys A stream of public keys corresponding to the signers of the messages.
+     * @param messages   A stream of messages that were signed. The order of messages should match the order of public keys.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @return Returns true if the aggregated signature verification is successful; false otherwise.
+     * @throws IllegalArgumentException If the streams have different lengths or if any of the arguments or elements is null.
+     * @see #aggregateVerifyStreaming(Iterator, Iterator, Signature)
+     */
+    public boolean aggregateVerifyStreaming(final Stream<PublicKey> publicKeys, final Stream<Bytes> messages, final Signature signature) {
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("publicKey stream cannot be null");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message stream cannot be null");
+        }
+
+        return aggregateVerifyStreaming(publicKeys.iterator(), messages.iterator(), signature);
+    }
+
+    /**
+     * Verify BLS signature against public keys and messages pulled from iterators, without materializing them.
+     * <p>
+     * Each (public key, message) pair is fed into the pairing accumulator as soon as it is pulled, so the memory
+     * used does not grow with the number of pairs. Verification stops pulling at the first rejected pair.
+     * </p>
+     *
+     * @param publicKeys An iterator over the public keys corresponding to the signers of the messages.
+     * @param messages   An iterator over the messages that were signed. The order of messages should match the order of public keys.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @return Returns true if the aggregated signature verification is successful; false otherwise.
+     * @throws IllegalArgumentException If the iterators have different lengths or if any of the arguments or elements is null.
+     */
+    public boolean aggregateVerifyStreaming(final Iterator<PublicKey> publicKeys, final Iterator<Bytes> messages, final Signature signature) {
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("publicKey iterator cannot be null");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message iterator cannot be null");
+        }
+
+        if (Objects.isNull(signature)) {
+            throw new IllegalArgumentException("signature cannot be null");
+        }
+
+        Predicate<Bytes> messageCheck = newMessageCheck(0, true);
+        Pairing pairing = null;
+
+        while (publicKeys.hasNext()) {
+            if (!messages.hasNext()) {
+                throw new IllegalArgumentException("Mismatched sizes for public keys and messages");
+            }
+
+            PublicKey publicKey = publicKeys.next();
+            Bytes message = messages.next();
+            if (Objects.isNull(publicKey) || Objects.isNull(message)) {
+                throw new IllegalArgumentException("public keys and messages cannot contain null");
+            }
+
+            if (Objects.isNull(pairing)) {
+                if (!signature.isValid()) {
+                    return false;
+                }
+                pairing = new Pairing(true, cipherSuiteID.getStringValue());
+            }
+
+            if (!messageCheck.test(message) || !aggregatePair(pairing, publicKey, message)) {
+                return false;
+            }
+        }
+
+        if (messages.hasNext()) {
+            throw new IllegalArgumentException("Mismatched sizes for public keys and messages");
+        }
+
+        // No pairs at all, see verifyAggregateSignatureArguments
+        if (Objects.isNull(pairing)) {
+            return signature.equals(Signature.ZERO);
+        }
+
+        pairing.commit();
+        return pairing.finalverify(new PT(signature.toAffine()));
+    }
+
+    /**
+     * Returns a fresh check that {@code aggregateVerify} and {@link #aggregateVerifyStreaming(Iterator, Iterator, Signature)}
+     * apply to every message of one verification, in order, as the pairs are accumulated. Schemes restricting
+     * which messages may be aggregated override it.
+     *
+     * @param expectedSize The number of messages expected, or 0 if unknown.
+     * @param copyMessages Whether a check that remembers messages must copy them, because the producer may reuse
+     *                     the arrays behind them.
+     * @return A check accepting every message.
+     */
+    Predicate<Bytes> newMessageCheck(int expectedSize, boolean copyMessages) {
+        return message -> true;
+    }
+
+    /**
+     * Returns the bytes hashed ahead of every message signed by the given key. They are passed to blst as the
+     * augmentation argument of hash-to-curve, which hashes them as a prefix of the message without the
+     * concatenation being built. Schemes that augment messages with the public key override it.
+     *
+     * @param publicKey The public key of the signer.
+     * @return The augmentation bytes, empty for none.
+     */
+    Bytes augmentation(PublicKey publicKey) {
+        return Bytes.EMPTY;
+    }
+
+    /**
+     * Verifies a batch of independent (public key, message, signature) triples.
+     * <p>
+     * Every triple is weighted with a fresh random {@value #BATCH_RANDOM_BITS}-bit scalar and folded into a single
+     * multi-pairing, so the batch pays for one final exponentiation instead of one per signature. The random
+     * weights keep invalid signatures from cancelling each other out; a batch containing an invalid signature
+     * is accepted with probability at most 2^-{@value #BATCH_RANDOM_BITS}.
+     * </p>
+     *
+     * @param publicKeys The public keys of the signers.
+     * @param messages   The signed messages. The order of messages should match the order of public keys.
+     * @param signatures The signatures to verify. The order of signatures should match the order of public keys.
+     * @return Returns true if every signature in the batch is valid, or if the batch is empty; false otherwise.
+     * @throws IllegalArgumentException If the sizes of the lists do not match or if any of the arguments is null.
+     */
+    @Override
+    public boolean verifyBatch(final List<PublicKey> publicKeys, final List<Bytes> messages, final List<Signature> signatures) {
+
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("publicKey list cannot be null");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message list cannot be null");
+        }
+
+        if (Objects.isNull(signatures)) {
+            throw new IllegalArgumentException("signature list cannot be null");
+        }
+
+        if (publicKeys.size() != messages.size() || publicKeys.size() != signatures.size()) {
+            throw new IllegalArgumentException("Mismatched sizes for public keys, messages and signatures");
+        }
+
+        if (publicKeys.isEmpty()) {
+            return true;
+        }
+
         Pairing pairing = new Pairing(true, cipherSuiteID.getStringValue());
-        P2_Affine signatureAffine = signature.point.to_affine();
-        PT fp12 = new PT(signatureAffine);
 
-        @SuppressWarnings("SpellCheckingInspection") List<P1_Affine> publicKeyAffines = publicKeys.stream().map(pk -> pk.point.to_affine()).toList();
+        for (int i = 0; i < publicKeys.size(); i++) {
+            PublicKey publicKey = publicKeys.get(i);
+            // mul_n_aggregate only group-checks the signature, so apply the same key checks as verify
+            if (publicKey.point.is_inf() || !publicKey.isValid()) {
+                return false;
+            }
 
-        for (int i = 0; i < publicKeyAffines.size(); i++) {
-            P1_Affine publicKeyAffine = publicKeyAffines.get(i);
-            Bytes messageBytes = Bytes.secure(messages.get(i).toArray());
+            P1_Affine publicKeyAffine = publicKey.toAffine();
+            P2_Affine signatureAffine = signatures.get(i).toAffine();
+            byte[] augmentation = augmentation(publicKey).toArrayUnsafe();
 
-            if (pairing.aggregate(publicKeyAffine, signatureAffine, messageBytes.toArray()) != BLST_ERROR.BLST_SUCCESS) {
+            if (pairing.mul_n_aggregate(publicKeyAffine, signatureAffine, nextBatchScalar(), BATCH_RANDOM_BITS, messages.get(i).toArrayUnsafe(), augmentation) != BLST_ERROR.BLST_SUCCESS) {
                 return false;
             }
         }
 
         pairing.commit();
-        return pairing.finalverify(fp12);
+        return pairing.finalverify();
     }
 
     /**
@@ -283,9 +864,101 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
         Bytes32 digest = Util.hash256(Bytes.wrap(parentPublicKey.serialize(), indexBytes));
         PrivateKey privateKey = PrivateKey.fromBytesModOrder(digest);
 
-        Scalar nonce = new Scalar().from_bendian(privateKey.serialize().toArray());
+        // The nonce is derived from public data, so the generator table may be indexed by it
+        byte[] nonce = privateKey.serialize().reverse().toArrayUnsafe();
+
+        return new PublicKey(GeneratorTables.addG1Multiple(parentPublicKey.point.dup(), nonce), parentPublicKey.isValidated());
+    }
+
+    /**
+     * Derives the unhardened child public keys of a range of indexes on the common pool, yielding them in index order.
+     *
+     * @param parentPublicKey The parent public key.
+     * @param from            The index of the first child.
+     * @param count           The number of children.
+     * @return The children, in index order.
+     * @throws IllegalArgumentException if an argument is null, count is negative or the range exceeds the index space.
+     */
+    public Stream<PublicKey> deriveChildPublicKeysUnhardened(final PublicKey parentPublicKey, UInt32 from, int count) {
+        try {
+            return deriveChildPublicKeysUnhardened(parentPublicKey, from, count, ForkJoinPool.commonPool(), null);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Derives the unhardened child public keys of a range of indexes on the common pool, yielding them in index order
+     * and keeping them in a checkpoint file so a later call does not derive them again.
+     *
+     * @param parentPublicKey The parent public key.
+     * @param from            The index of the first child.
+     * @param count           The number of children.
+     * @param checkpoint      The checkpoint file of the parent key. See the pool variant.
+     * @return The children, in index order. Close the stream to close the checkpoint file.
+     * @throws IOException              if the checkpoint file cannot be opened or belongs to another parent key.
+     * @throws IllegalArgumentException if an argument is null, count is negative or the range exceeds the index space.
+     */
+    public Stream<PublicKey> deriveChildPublicKeysUnhardened(final PublicKey parentPublicKey, UInt32 from, int count, final Path checkpoint) throws IOException {
+        if (Objects.isNull(checkpoint)) {
+            throw new IllegalArgumentException("checkpoint cannot be null");
+        }
+
+        return deriveChildPublicKeysUnhardened(parentPublicKey, from, count, ForkJoinPool.commonPool(), checkpoint);
+    }
+
+    /**
+     * Derives the unhardened child public keys of a range of indexes on the workers of the given pool, yielding them
+     * in index order. Children are derived in batches, the next batch while the caller consumes the current one.
+     * <p>
+     * The checkpoint file, if given, holds the children of indexes 0 onwards of this parent key and is created if
+     * missing. Children it already holds are read back instead of derived; they are decoded but only
+     * subgroup-checked on demand. Derived batches that extend it are appended before they are yielded, so after a
+     * restart a scan from index 0 resumes where the last one stopped. Ranges starting beyond its end do not extend it.
+     * </p>
+     *
+     * @param parentPublicKey The parent public key.
+     * @param from            The index of the first child.
+     * @param count           The number of children.
+     * @param pool            The pool whose workers derive the children.
+     * @param checkpoint      The checkpoint file of the parent key, or null for none.
+     * @return The children, in index order. Close the stream to close the checkpoint file. Failures to read or
+     * write the checkpoint surface as {@link UncheckedIOException} while the stream is consumed.
+     * @throws IOException              if the checkpoint file cannot be opened or belongs to another parent key.
+     * @throws IllegalArgumentException if an argument other than checkpoint is null, count is negative or the range
+     *                                  exceeds the index space.
+     */
+    public Stream<PublicKey> deriveChildPublicKeysUnhardened(final PublicKey parentPublicKey, UInt32 from, int count, final ForkJoinPool pool, final Path checkpoint) throws IOException {
+        if (Objects.isNull(parentPublicKey)) {
+            throw new IllegalArgumentException("publicKey cannot be null");
+        }
+
+        if (Objects.isNull(from)) {
+            throw new IllegalArgumentException("index cannot be null");
+        }
+
+        if (Objects.isNull(pool)) {
+            throw new IllegalArgumentException("pool cannot be null");
+        }
 
-        return new PublicKey(parentPublicKey.point.add(P1.generator().mult(nonce)));
+        long end = from.toLong() + count;
+        if (count < 0 || end > 1L << 32) {
+            throw new IllegalArgumentException("count must be non-negative and the range must stay within 32-bit indexes");
+        }
+
+        ChildPublicKeyCheckpoint openCheckpoint = Objects.isNull(checkpoint) ? null : ChildPublicKeyCheckpoint.open(checkpoint, parentPublicKey);
+        ChildPublicKeyRange range;
+        try {
+            range = new ChildPublicKeyRange(this, parentPublicKey, from.toLong(), end, pool, openCheckpoint);
+        } catch (RuntimeException ex) {
+            if (Objects.nonNull(openCheckpoint)) {
+                openCheckpoint.close();
+            }
+            throw ex;
+        }
+
+        return StreamSupport.stream(Spliterators.spliterator(range, count, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false)
+                .onClose(range::close);
     }
 
     /**
@@ -312,9 +985,9 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
 
         Bytes indexBytes = Util.intTofourBytes(index);
         Bytes32 digest = Util.hash256(Bytes.wrap(signature.serialize(), indexBytes));
-        Scalar nonce = new Scalar().from_lendian(digest.toArray());
+        byte[] nonce = digest.toArrayUnsafe();
 
-        return new Signature(signature.point.add(P2.generator().mult(nonce)));
+        return new Signature(GeneratorTables.addG2Multiple(signature.point.dup(), nonce), signature.isValidated());
     }
 
     /**
@@ -353,6 +1026,264 @@ public abstract class CoreSignatureScheme implements SignatureScheme {
         return (publicKeyCount == messageCount) ? InvariantResult.CONTINUE : InvariantResult.BAD;
     }
 
+    static Bytes wrap(byte[] message) {
+        if (Objects.isNull(message)) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+
+        return Bytes.wrap(message);
+    }
+
+    static Bytes wrap(byte[] message, int offset, int length) {
+        if (Objects.isNull(message)) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+
+        if (offset < 0 || length < 0 || offset > message.length - length) {
+            throw new IllegalArgumentException("message slice is out of bounds");
+        }
+
+        return Bytes.wrap(message, offset, length);
+    }
+
+    static Bytes wrap(ByteBuffer message) {
+        if (Objects.isNull(message)) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+
+        return Bytes.wrapByteBuffer(message, message.position(), message.remaining());
+    }
+
+    /**
+     * Hashes a message to G2 under this scheme's cipher suite, through the installed cache if there is one.
+     *
+     * @param augmentation The bytes hashed ahead of the message, empty for none.
+     * @param message      The message to hash.
+     * @return The hashed point in affine form. Callers must not modify it.
+     */
+    P2_Affine hashToG2(Bytes augmentation, Bytes message) {
+        HashToCurveCache cache = hashToCurveCache;
+        if (Objects.nonNull(cache)) {
+            return cache.hashToG2(cipherSuiteID, augmentation, message);
+        }
+
+        return new P2().hash_to(message.toArrayUnsafe(), cipherSuiteID.getStringValue(), augmentation.toArrayUnsafe()).to_affine();
+    }
+
+    /**
+     * Verifies a signature against a message that has already been hashed to G2.
+     * Applies the same checks as {@code core_verify}: the public key must be a non-infinity element of G1 and the
+     * signature an element of G2. Subgroup checks are skipped for points already known to be valid.
+     *
+     * @param publicKey     The public key.
+     * @param hashedMessage The message hashed to G2 under this scheme's cipher suite.
+     * @param signature     The signature.
+     * @return true if the signature is valid, false otherwise.
+     */
+    boolean verifyHashed(PublicKey publicKey, P2_Affine hashedMessage, Signature signature) {
+        if (publicKey.point.is_inf() || !publicKey.isValid() || !signature.isValid()) {
+            return false;
+        }
+
+        Pairing pairing = new Pairing(true, cipherSuiteID.getStringValue());
+        pairing.raw_aggregate(hashedMessage, publicKey.toAffine());
+        pairing.commit();
+
+        return pairing.finalverify(new PT(signature.toAffine()));
+    }
+
+    /**
+     * Adds the Miller loop of one (public key, message) pair of an aggregate verification to the pairing context.
+     * Like {@code Pairing.aggregate}, it rejects public keys that are infinity or outside G1, but only runs the
+     * subgroup check for keys not already known to be valid.
+     *
+     * @param pairing   The pairing context to accumulate into.
+     * @param publicKey The public key of the signer.
+     * @param message   The signed message, before any augmentation.
+     * @return true if the pair was accumulated, false if the public key was rejected.
+     */
+    boolean aggregatePair(Pairing pairing, PublicKey publicKey, Bytes message) {
+        if (publicKey.point.is_inf() || !publicKey.isValid()) {
+            return false;
+        }
+
+        pairing.raw_aggregate(hashToG2(augmentation(publicKey), message), publicKey.toAffine());
+        return true;
+    }
+
+    /**
+     * Draws a fresh non-zero random scalar used to weight one signature of a batch.
+     *
+     * @return A {@link Scalar} holding {@value #BATCH_RANDOM_BITS} uniformly random bits, never all zero.
+     */
+    static Scalar nextBatchScalar() {
+        byte[] scalarBytes = new byte[BATCH_RANDOM_BITS / 8];
+
+        // A zero weight would drop the signature from the batch entirely, so draw again rather than fix a bit
+        do {
+            BATCH_RANDOM.nextBytes(scalarBytes);
+        } while (isZero(scalarBytes));
+
+        return new Scalar().from_bendian(scalarBytes);
+    }
+
+    private static boolean isZero(byte[] bytes) {
+        int bits = 0;
+        for (byte b : bytes) {
+            bits |= b;
+        }
+        return bits == 0;
+    }
+
+    /**
+     * Accumulates a range of (public key, message) pairs into a committed {@link Pairing}, splitting the range
+     * in halves until it is no longer than the slice size and merging the halves' contexts afterwards.
+     * Yields null once any pair in the whole verification has been rejected.
+     */
+    private final class AggregateVerifyTask extends RecursiveTask<Pairing> {
+
+        private final List<PublicKey> publicKeys;
+        private final List<Bytes> messages;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+        private final AtomicBoolean failed;
+
+        AggregateVerifyTask(List<PublicKey> publicKeys, List<Bytes> messages, int from, int to, int sliceSize, AtomicBoolean failed) {
+            this.publicKeys = publicKeys;
+            this.messages = messages;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+            this.failed = failed;
+        }
+
+        @Override
+        protected Pairing compute() {
+            if (failed.get()) {
+                return null;
+            }
+
+            if (to - from <= sliceSize) {
+                Pairing pairing = new Pairing(true, cipherSuiteID.getStringValue());
+
+                for (int i = from; i < to; i++) {
+                    if (failed.get()) {
+                        return null;
+                    }
+
+                    if (!aggregatePair(pairing, publicKeys.get(i), messages.get(i))) {
+                        failed.set(true);
+                        return null;
+                    }
+                }
+
+                pairing.commit();
+                return pairing;
+            }
+
+            int middle = (from + to) >>> 1;
+            AggregateVerifyTask left = new AggregateVerifyTask(publicKeys, messages, from, middle, sliceSize, failed);
+            AggregateVerifyTask right = new AggregateVerifyTask(publicKeys, messages, middle, to, sliceSize, failed);
+
+            left.fork();
+            Pairing rightPairing = right.compute();
+            Pairing leftPairing = left.join();
+
+            if (Objects.isNull(leftPairing) || Objects.isNull(rightPairing)) {
+                return null;
+            }
+
+            if (leftPairing.merge(rightPairing) != BLST_ERROR.BLST_SUCCESS) {
+                failed.set(true);
+                return null;
+            }
+
+            return leftPairing;
+        }
+    }
+
+    /**
+     * Derives the public keys of a range of private keys into an array, splitting the range in halves until it is
+     * no longer than the slice size.
+     */
+    private static final class DerivePublicKeysTask extends RecursiveAction {
+
+        private final List<PrivateKey> privateKeys;
+        private final PublicKey[] publicKeys;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+
+        DerivePublicKeysTask(List<PrivateKey> privateKeys, PublicKey[] publicKeys, int from, int to, int sliceSize) {
+            this.privateKeys = privateKeys;
+            this.publicKeys = publicKeys;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= sliceSize) {
+                for (int i = from; i < to; i++) {
+                    PublicKey publicKey = privateKeys.get(i).getPublicKey();
+                    // Normalize on the worker, once: the encoding is compressed from the cached affine form
+                    publicKey.toAffine();
+                    publicKey.serialize();
+                    publicKeys[i] = publicKey;
+                }
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new DerivePublicKeysTask(privateKeys, publicKeys, from, middle, sliceSize),
+                    new DerivePublicKeysTask(privateKeys, publicKeys, middle, to, sliceSize));
+        }
+    }
+
+    /**
+     * Accumulates a range of a list with a collector, splitting the range in halves until it is no longer than
+     * the slice size and combining the halves' accumulators afterwards.
+     */
+    private static final class SumTask<T, A> extends RecursiveTask<A> {
+
+        private final List<T> elements;
+        private final Collector<T, A, ?> collector;
+        private final int from;
+        private final int to;
+        private final int sliceSize;
+
+        SumTask(List<T> elements, Collector<T, A, ?> collector, int from, int to, int sliceSize) {
+            this.elements = elements;
+            this.collector = collector;
+            this.from = from;
+            this.to = to;
+            this.sliceSize = sliceSize;
+        }
+
+        @Override
+        protected A compute() {
+            if (to - from <= sliceSize) {
+                A accumulator = collector.supplier().get();
+                for (int i = from; i < to; i++) {
+                    collector.accumulator().accept(accumulator, elements.get(i));
+                }
+                return accumulator;
+            }
+
+            int middle = (from + to) >>> 1;
+            SumTask<T, A> left = new SumTask<>(elements, collector, from, middle, sliceSize);
+            SumTask<T, A> right = new SumTask<>(elements, collector, middle, to, sliceSize);
+
+            left.fork();
+            A rightAccumulator = right.compute();
+            A leftAccumulator = left.join();
+
+            return collector.combiner().apply(leftAccumulator, rightAccumulator);
+        }
+    }
+
     /**
      * Enum representing the result of the verification of aggregate signature arguments.
      */
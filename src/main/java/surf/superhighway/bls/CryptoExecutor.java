@@ -0,0 +1,142 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the blocking blst calls of a {@link SignatureScheme} on a fixed pool of platform threads.
+ * <p>
+ * A thread inside a JNI call cannot be unmounted, so a virtual thread calling into blst pins its carrier for the
+ * whole pairing or hash-to-curve. Callers on virtual threads should use the asynchronous methods of this class
+ * instead: the native work runs on one of the pool's platform threads, sized to the number of cores by default,
+ * while waiting on the returned {@link CompletableFuture} parks the virtual thread and releases its carrier.
+ * </p>
+ */
+public class CryptoExecutor implements AutoCloseable {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final SignatureScheme scheme;
+    private final ExecutorService pool;
+
+    /**
+     * Creates an executor with one platform thread per available processor.
+     *
+     * @param scheme The signature scheme whose operations are offloaded.
+     * @throws IllegalArgumentException if scheme is null.
+     */
+    public CryptoExecutor(final SignatureScheme scheme) {
+        this(scheme, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an executor with the given number of platform threads.
+     *
+     * @param scheme  The signature scheme whose operations are offloaded.
+     * @param threads The number of platform threads running blst calls.
+     * @throws IllegalArgumentException if scheme is null or threads is not positive.
+     */
+    public CryptoExecutor(final SignatureScheme scheme, int threads) {
+        if (Objects.isNull(scheme)) {
+            throw new IllegalArgumentException("scheme cannot be null");
+        }
+
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+
+        this.scheme = scheme;
+
+        String namePrefix = "bls-crypto-" + POOL_COUNT.incrementAndGet() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Signs a message on the pool.
+     *
+     * @param privateKey the private key to be used for signing the message.
+     * @param message    the message to be signed.
+     * @return A future completed with the {@link Signature} of the message.
+     * @see SignatureScheme#sign(PrivateKey, Bytes)
+     */
+    public CompletableFuture<Signature> signAsync(final PrivateKey privateKey, final Bytes message) {
+        return submit(() -> scheme.sign(privateKey, message));
+    }
+
+    /**
+     * Verifies a signature on the pool.
+     *
+     * @param publicKey the public key used for verification.
+     * @param message   the message whose signature is to be verified.
+     * @param signature the signature to be verified.
+     * @return A future completed with true if the signature is valid, false otherwise.
+     * @see SignatureScheme#verify(PublicKey, Bytes, Signature)
+     */
+    public CompletableFuture<Boolean> verifyAsync(final PublicKey publicKey, final Bytes message, final Signature signature) {
+        return submit(() -> scheme.verify(publicKey, message, signature));
+    }
+
+    /**
+     * Verifies an aggregated signature on the pool.
+     *
+     * @param publicKeys A list of public keys corresponding to the signers of the messages.
+     * @param messages   A list of messages that were signed. The order of messages should match the order of public keys.
+     * @param signature  The aggregated signature that corresponds to the aggregated public keys and messages.
+     * @return A future completed with true if the aggregated signature verification is successful, false otherwise.
+     * @see SignatureScheme#aggregateVerify(List, List, Signature)
+     */
+    public CompletableFuture<Boolean> aggregateVerifyAsync(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature) {
+        return submit(() -> scheme.aggregateVerify(publicKeys, messages, signature));
+    }
+
+    /**
+     * Verifies a batch of independent signatures on the pool.
+     *
+     * @param publicKeys The public keys of the signers.
+     * @param messages   The signed messages. The order of messages should match the order of public keys.
+     * @param signatures The signatures to verify. The order of signatures should match the order of public keys.
+     * @return A future completed with true if every signature in the batch is valid, false otherwise.
+     * @see SignatureScheme#verifyBatch(List, List, List)
+     */
+    public CompletableFuture<Boolean> verifyBatchAsync(final List<PublicKey> publicKeys, final List<Bytes> messages, final List<Signature> signatures) {
+        return submit(() -> scheme.verifyBatch(publicKeys, messages, signatures));
+    }
+
+    /**
+     * Runs arbitrary crypto work on the pool.
+     *
+     * @param task The work to run.
+     * @param <T>  The type of the result.
+     * @return A future completed with the result of the task, or exceptionally with what it threw.
+     * @throws IllegalArgumentException if task is null.
+     */
+    public <T> CompletableFuture<T> submit(final Supplier<T> task) {
+        if (Objects.isNull(task)) {
+            throw new IllegalArgumentException("task cannot be null");
+        }
+
+        return CompletableFuture.supplyAsync(task, pool);
+    }
+
+    /**
+     * Stops accepting work. Work that was already submitted still completes.
+     */
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,111 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Predicate;
+
+/**
+ * Accepts each distinct message once, for the basic scheme's rule that aggregated messages must be unique.
+ * <p>
+ * Messages are keyed by the first 64 bits of their SHA-256 digest in an open-addressing table of primitive arrays,
+ * so a check hashes the message bytes in place and allocates nothing but the occasional table resize. Messages
+ * whose digests share a key are compared in full, so crafted digest collisions can cost time but never cause a
+ * wrong answer. Not thread-safe.
+ * </p>
+ */
+final class DistinctMessageFilter implements Predicate<Bytes> {
+
+    private final MessageDigest sha256;
+    private final byte[] digest = new byte[32];
+    private final boolean copyMessages;
+    private long[] keys;
+    private Bytes[] messages;
+    private int size;
+
+    /**
+     * @param expectedSize The number of messages expected, to size the table up front.
+     * @param copyMessages Whether to copy accepted messages, for producers that reuse the arrays behind them.
+     */
+    DistinctMessageFilter(int expectedSize, boolean copyMessages) {
+        try {
+            this.sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm is not available.", e);
+        }
+
+        this.copyMessages = copyMessages;
+        // Keep the table at most half full so probe sequences stay short; larger inputs grow past the initial cap
+        int capacity = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(8L, expectedSize * 2L) - 1) << 1);
+        this.keys = new long[capacity];
+        this.messages = new Bytes[capacity];
+    }
+
+    /**
+     * Remembers a message.
+     *
+     * @param message The message.
+     * @return true if the message was not seen before, false if it is a duplicate.
+     */
+    @Override
+    public boolean test(Bytes message) {
+        long key = keyOf(message);
+        int mask = keys.length - 1;
+
+        int slot = slotOf(key, mask);
+        while (messages[slot] != null) {
+            if (keys[slot] == key && messages[slot].equals(message)) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        messages[slot] = copyMessages ? message.copy() : message;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+
+        return true;
+    }
+
+    private long keyOf(Bytes message) {
+        message.update(sha256);
+        try {
+            sha256.digest(digest, 0, digest.length);
+        } catch (DigestException e) {
+            throw new IllegalStateException("SHA-256 digest does not fit its buffer.", e);
+        }
+
+        long key = 0;
+        for (int i = 0; i < 8; i++) {
+            key = (key << 8) | (digest[i] & 0xff);
+        }
+        return key;
+    }
+
+    private static int slotOf(long key, int mask) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Bytes[] oldMessages = messages;
+        keys = new long[oldKeys.length * 2];
+        messages = new Bytes[oldMessages.length * 2];
+
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldMessages[i] != null) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (messages[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                messages[slot] = oldMessages[i];
+            }
+        }
+    }
+}
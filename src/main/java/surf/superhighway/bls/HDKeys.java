@@ -3,15 +3,20 @@ package surf.superhighway.bls;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt32;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
 import surf.superhighway.util.Util;
 import supranational.blst.SecretKey;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 public class HDKeys {
 
     public static final int HASH_LENGTH = 32;
 
+    private static final byte[] EMPTY = new byte[0];
+
     private HDKeys() {
         throw new AssertionError("HDKeys class should not be instantiated.");
     }
@@ -56,32 +61,41 @@ public class HDKeys {
             throw new IllegalArgumentException("index cannot be null");
         }
 
-        UInt32 outputLength = UInt32.valueOf(HASH_LENGTH * 255);
-        Bytes salt = Util.intTofourBytes(index);
-        Bytes ikm = parentPrivateKey.serialize();
-
-        Bytes notIkm = ikm.not();
-        Bytes lamport0 = HKDF.ExtractExpand(salt, ikm, Bytes.EMPTY, outputLength);
-        Bytes lamport1 = HKDF.ExtractExpand(salt, notIkm, Bytes.EMPTY, outputLength);
-
-        assert (4 == salt.size());
-        assert (HASH_LENGTH == ikm.size());
-        assert (HASH_LENGTH == notIkm.size());
-        assert (HASH_LENGTH * 255 == lamport0.size());
-        assert (HASH_LENGTH * 255 == lamport1.size());
+        byte[] salt = Util.intTofourBytes(index).toArray();
+        byte[] ikm = parentPrivateKey.blstSecretKey.to_bendian();
+        byte[] notIkm = new byte[HASH_LENGTH];
+        for (int i = 0; i < HASH_LENGTH; i++) {
+            notIkm[i] = (byte) ~ikm[i];
+        }
 
-        Bytes lamportPK = Bytes.EMPTY;
-        for (int i = 0; i < 255; i++) {
-            int startIndex = i * HASH_LENGTH;
-            lamportPK = Bytes.concatenate(lamportPK, Util.hash256(lamport0.slice(startIndex, HASH_LENGTH)));
+        // Each 32-byte chunk of the Lamport secrets is hashed as soon as it is expanded, and its hash fed
+        // straight into the running hash of the Lamport public key, so neither is ever held in full
+        SHA256Digest lamportPK = new SHA256Digest();
+        SHA256Digest chunkDigest = new SHA256Digest();
+        byte[] chunk = new byte[HASH_LENGTH];
+        byte[] chunkHash = new byte[HASH_LENGTH];
+        try {
+            hashLamportChunks(HKDF.extractExpander(salt, ikm, EMPTY), chunk, chunkHash, chunkDigest, lamportPK);
+            hashLamportChunks(HKDF.extractExpander(salt, notIkm, EMPTY), chunk, chunkHash, chunkDigest, lamportPK);
+
+            byte[] result = new byte[HASH_LENGTH];
+            lamportPK.doFinal(result, 0);
+            return Bytes32.secure(result);
+        } finally {
+            Arrays.fill(ikm, (byte) 0);
+            Arrays.fill(notIkm, (byte) 0);
+            Arrays.fill(chunk, (byte) 0);
+            Arrays.fill(chunkHash, (byte) 0);
         }
+    }
 
+    private static void hashLamportChunks(HKDFBytesGenerator lamportSecret, byte[] chunk, byte[] chunkHash, SHA256Digest chunkDigest, SHA256Digest lamportPK) {
         for (int i = 0; i < 255; i++) {
-            int startIndex = i * HASH_LENGTH;
-            lamportPK = Bytes.concatenate(lamportPK, Util.hash256(lamport1.slice(startIndex, HASH_LENGTH)));
+            lamportSecret.generateBytes(chunk, 0, HASH_LENGTH);
+            chunkDigest.update(chunk, 0, HASH_LENGTH);
+            chunkDigest.doFinal(chunkHash, 0);
+            lamportPK.update(chunkHash, 0, HASH_LENGTH);
         }
-
-        return Util.hash256(lamportPK);
     }
 
     /**
@@ -0,0 +1,147 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt32;
+import surf.superhighway.util.Util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Derives EIP-2333 hardened paths from one master key, remembering the intermediate nodes.
+ * <p>
+ * Every hardened level runs the full Lamport construction, so a path derived from scratch costs one construction
+ * per level. The cache keeps the secret of every node it derives, keyed by its path, and a later path sharing a
+ * prefix only pays for the levels past the longest cached prefix. At most {@code capacity} nodes are kept, the
+ * least recently used ones evicted first.
+ * </p>
+ * <p>
+ * Cached secrets are held as plain arrays, overwritten with zeros when they are evicted, cleared or the cache is
+ * closed. The {@link PrivateKey} instances handed out keep their own copy in native memory, out of the cache's reach.
+ * </p>
+ */
+public class HDPathCache implements AutoCloseable {
+
+    private final PrivateKey masterPrivateKey;
+    private final int capacity;
+    private final LinkedHashMap<Bytes, byte[]> nodes;
+
+    /**
+     * Creates a cache for paths under the given master key.
+     *
+     * @param masterPrivateKey The master key every path starts from.
+     * @param capacity         The maximum number of derived nodes kept.
+     * @throws IllegalArgumentException if masterPrivateKey is null or capacity is not positive.
+     */
+    public HDPathCache(final PrivateKey masterPrivateKey, int capacity) {
+        if (Objects.isNull(masterPrivateKey)) {
+            throw new IllegalArgumentException("masterPrivateKey cannot be null");
+        }
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        this.masterPrivateKey = masterPrivateKey;
+        this.capacity = capacity;
+        this.nodes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Bytes, byte[]> eldest) {
+                if (size() > HDPathCache.this.capacity) {
+                    Arrays.fill(eldest.getValue(), (byte) 0);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Derives the private key at a hardened path, with the same result as applying
+     * {@link HDKeys#deriveChildSk(PrivateKey, UInt32)} level by level from the master key.
+     *
+     * @param path The child index of every level, from the master key down. An empty path yields the master key.
+     * @return The derived {@link PrivateKey}.
+     * @throws IllegalArgumentException if path is null or contains null.
+     */
+    public PrivateKey derive(final UInt32... path) {
+        if (Objects.isNull(path)) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        Bytes[] prefixes = new Bytes[path.length + 1];
+        prefixes[0] = Bytes.EMPTY;
+        for (int i = 0; i < path.length; i++) {
+            if (Objects.isNull(path[i])) {
+                throw new IllegalArgumentException("path cannot contain null");
+            }
+            prefixes[i + 1] = Bytes.wrap(prefixes[i], Util.intTofourBytes(path[i]));
+        }
+
+        PrivateKey node = masterPrivateKey;
+        int depth = 0;
+        for (int i = path.length; i > 0; i--) {
+            PrivateKey cached = lookup(prefixes[i]);
+            if (Objects.nonNull(cached)) {
+                node = cached;
+                depth = i;
+                break;
+            }
+        }
+
+        for (; depth < path.length; depth++) {
+            node = HDKeys.deriveChildSk(node, path[depth]);
+            store(prefixes[depth + 1], node);
+        }
+
+        return node;
+    }
+
+    /**
+     * Overwrites every cached secret with zeros and forgets it.
+     */
+    public synchronized void clear() {
+        for (byte[] secret : nodes.values()) {
+            Arrays.fill(secret, (byte) 0);
+        }
+        nodes.clear();
+    }
+
+    /**
+     * Same as {@link #clear()}. The cache may still be used afterwards.
+     */
+    @Override
+    public void close() {
+        clear();
+    }
+
+    /**
+     * @return The number of cached nodes.
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return The maximum number of cached nodes.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private synchronized PrivateKey lookup(Bytes prefix) {
+        byte[] secret = nodes.get(prefix);
+        return Objects.isNull(secret) ? null : PrivateKey.fromBytes(Bytes32.wrap(secret));
+    }
+
+    private synchronized void store(Bytes prefix, PrivateKey node) {
+        // The prefix is a view over the caller's prefixes, so keep a compact copy
+        byte[] previous = nodes.put(prefix.copy(), node.blstSecretKey.to_bendian());
+        if (Objects.nonNull(previous)) {
+            Arrays.fill(previous, (byte) 0);
+        }
+    }
+}
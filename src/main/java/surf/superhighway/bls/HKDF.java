@@ -44,10 +44,7 @@ public class HKDF {
             throw new IllegalArgumentException("outputLength cannot be null");
         }
 
-        HKDFBytesGenerator hkdfBytesGenerator = new HKDFBytesGenerator(new SHA256Digest());
-
-        HKDFParameters hkdfParams = new HKDFParameters(ikm.toArray(), salt.toArray(), info.toArray());
-        hkdfBytesGenerator.init(hkdfParams);
+        HKDFBytesGenerator hkdfBytesGenerator = extractExpander(salt.toArray(), ikm.toArray(), info.toArray());
         byte[] output = new byte[outputLength.intValue()];
         int generatedLength = hkdfBytesGenerator.generateBytes(output, 0, outputLength.intValue());
 
@@ -57,4 +54,19 @@ public class HKDF {
 
         return Bytes.secure(output);
     }
+
+    /**
+     * Runs the Extract phase and returns a generator producing the output keying material incrementally, so
+     * callers can consume it in chunks without holding all of it.
+     *
+     * @param salt The salt.
+     * @param ikm  The input keying material. The generator keeps its own copy.
+     * @param info The context information.
+     * @return A generator whose successive {@code generateBytes} calls continue the output.
+     */
+    static HKDFBytesGenerator extractExpander(byte[] salt, byte[] ikm, byte[] info) {
+        HKDFBytesGenerator hkdfBytesGenerator = new HKDFBytesGenerator(new SHA256Digest());
+        hkdfBytesGenerator.init(new HKDFParameters(ikm, salt, info));
+        return hkdfBytesGenerator;
+    }
 }
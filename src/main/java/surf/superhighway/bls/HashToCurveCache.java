@@ -0,0 +1,119 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import surf.superhighway.util.BoundedCache;
+import supranational.blst.P2;
+import supranational.blst.P2_Affine;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded cache of messages hashed to G2.
+ * <p>
+ * Each {@link CipherSuiteID} has its own namespace of the given capacity, since the same message hashes to a
+ * different point under every domain separation tag. A cache is installed on a scheme with
+ * {@link CoreSignatureScheme#setHashToCurveCache(HashToCurveCache)}, after which the scheme's sign and verify
+ * consult it before hashing. One cache can be shared by several schemes.
+ * </p>
+ */
+public class HashToCurveCache {
+
+    private final Map<CipherSuiteID, BoundedCache<Bytes, P2_Affine>> namespaces = new EnumMap<>(CipherSuiteID.class);
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacityPerCipherSuite The maximum number of hashed messages kept for each cipher suite.
+     * @throws IllegalArgumentException if capacityPerCipherSuite is not positive.
+     */
+    public HashToCurveCache(int capacityPerCipherSuite) {
+        if (capacityPerCipherSuite < 1) {
+            throw new IllegalArgumentException("capacityPerCipherSuite must be positive");
+        }
+
+        for (CipherSuiteID cipherSuiteID : CipherSuiteID.values()) {
+            namespaces.put(cipherSuiteID, new BoundedCache<>(capacityPerCipherSuite));
+        }
+    }
+
+    /**
+     * Hashes a message to G2 under the cipher suite's domain separation tag, reusing a cached point if possible.
+     *
+     * @param cipherSuiteID The cipher suite whose domain separation tag is used.
+     * @param augmentation  The bytes hashed ahead of the message, empty for none.
+     * @param message       The message to hash.
+     * @return The hashed point in affine form. Callers must not modify it.
+     */
+    P2_Affine hashToG2(final CipherSuiteID cipherSuiteID, final Bytes augmentation, final Bytes message) {
+        BoundedCache<Bytes, P2_Affine> namespace = namespaces.get(cipherSuiteID);
+
+        // A concatenated view, equal to the augmented message without copying either part
+        Bytes key = augmentation.isEmpty() ? message : Bytes.wrap(augmentation, message);
+        P2_Affine hashed = namespace.get(key);
+        if (Objects.isNull(hashed)) {
+            hashed = new P2().hash_to(message.toArrayUnsafe(), cipherSuiteID.getStringValue(), augmentation.toArrayUnsafe()).to_affine();
+            // Copy the key, the caller may reuse the arrays behind the message
+            namespace.put(key.copy(), hashed);
+        }
+
+        return hashed;
+    }
+
+    /**
+     * Removes every cached point. Statistics are kept.
+     */
+    public void clear() {
+        namespaces.values().forEach(BoundedCache::clear);
+    }
+
+    /**
+     * @return The number of cached points across all cipher suites.
+     */
+    public int size() {
+        return namespaces.values().stream().mapToInt(BoundedCache::size).sum();
+    }
+
+    /**
+     * @return The number of lookups that found a cached point, across all cipher suites.
+     */
+    public long hitCount() {
+        return namespaces.values().stream().mapToLong(BoundedCache::hitCount).sum();
+    }
+
+    /**
+     * @return The number of lookups that had to hash the message, across all cipher suites.
+     */
+    public long missCount() {
+        return namespaces.values().stream().mapToLong(BoundedCache::missCount).sum();
+    }
+
+    /**
+     * @return The number of points evicted to make room for new ones, across all cipher suites.
+     */
+    public long evictionCount() {
+        return namespaces.values().stream().mapToLong(BoundedCache::evictionCount).sum();
+    }
+
+    /**
+     * @return The fraction of lookups that found a cached point, or 0 if there were no lookups yet.
+     */
+    public double hitRate() {
+        long hitCount = hitCount();
+        long lookups = hitCount + missCount();
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * @param cipherSuiteID The cipher suite to report on.
+     * @return The fraction of lookups under the cipher suite that found a cached point, or 0 if there were none.
+     */
+    public double hitRate(final CipherSuiteID cipherSuiteID) {
+        if (Objects.isNull(cipherSuiteID)) {
+            throw new IllegalArgumentException("cipherSuiteID cannot be null");
+        }
+
+        return namespaces.get(cipherSuiteID).hitRate();
+    }
+}
@@ -2,10 +2,7 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 public class MessageAugmentationSignatureScheme extends CoreSignatureScheme {
 
@@ -18,7 +15,7 @@ public class MessageAugmentationSignatureScheme extends CoreSignatureScheme {
     }
 
     /**
-     * Signs the given message after concatenating the public key representation of the private key to the message.
+     * Signs the given message after prepending the public key representation of the private key to the message.
      *
      * @param privateKey the private key used for signing.
      * @param message    the original message to be signed.
@@ -36,13 +33,11 @@ public class MessageAugmentationSignatureScheme extends CoreSignatureScheme {
             throw new IllegalArgumentException("message cannot be null");
         }
 
-        // Augmenting the message with the public key
-        final Bytes augmentedMessage = Bytes.concatenate(privateKey.getPublicKey().serialize(), message);
-        return super.sign(privateKey, augmentedMessage);
+        return signAugmented(privateKey, message, augmentation(privateKey.getPublicKey()));
     }
 
     /**
-     * Signs the given message after concatenating the public key representation of the private key to the message.
+     * Signs the given message after prepending the given public key to the message.
      *
      * @param privateKey the private key used for signing.
      * @param message    the original message to be signed.
@@ -64,77 +59,20 @@ public class MessageAugmentationSignatureScheme extends CoreSignatureScheme {
             throw new IllegalArgumentException("publicKey cannot be null");
         }
 
-        // Augmenting the message with the public key
-        final Bytes augmentedMessage = Bytes.concatenate(publicKey.serialize(), message);
-        return super.sign(privateKey, augmentedMessage);
+        return signAugmented(privateKey, message, augmentation(publicKey));
     }
 
-
     /**
-     * Verifies the signature for the given message after concatenating the serialized representation
-     * of the public key to the original message.
+     * Augments every message with the serialized public key of its signer. The key's cached encoding is handed
+     * to blst as the augmentation argument, so sign, verify, aggregateVerify, verifyBatch and the streaming
+     * verification hash the augmented message without building it.
      *
-     * @param publicKey the public key used to verify the signature.
-     * @param message   the original message whose signature is to be verified.
-     * @param signature the signature to be verified against the augmented message.
-     * @return true if the signature is valid for the augmented message; false otherwise.
-     * @throws IllegalArgumentException if any of the parameters are null.
+     * @param publicKey The public key of the signer.
+     * @return The 48-byte compressed encoding of the public key.
      */
     @Override
-    public boolean verify(final PublicKey publicKey, final Bytes message, final Signature signature) {
-        if (Objects.isNull(publicKey)) {
-            throw new IllegalArgumentException("publicKey cannot be null");
-        }
-
-        if (Objects.isNull(message)) {
-            throw new IllegalArgumentException("message cannot be null");
-        }
-
-        if (Objects.isNull(signature)) {
-            throw new IllegalArgumentException("signature cannot be null");
-        }
-
-        final Bytes augmentedMessage = Bytes.concatenate(publicKey.serialize(), message);
-        return super.verify(publicKey, augmentedMessage, signature);
-    }
-
-    /**
-     * Verifies an aggregated signature for a list of messages after each message is
-     * augmented with its corresponding serialized public key.
-     *
-     * @param publicKeys the list of public keys, each corresponding to a message.
-     * @param messages   the original messages whose aggregated signature is to be verified.
-     * @param signature  the aggregated signature to be verified against the augmented messages.
-     * @return true if the aggregated signature is valid for the list of augmented messages; false otherwise.
-     * @throws IllegalArgumentException if the provided lists are null, or if they have mismatched sizes.
-     */
-    @Override
-    public boolean aggregateVerify(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature) {
-        if (Objects.isNull(publicKeys)) {
-            throw new IllegalArgumentException("publicKey list cannot be null");
-        }
-
-        if (Objects.isNull(messages)) {
-            throw new IllegalArgumentException("message list cannot be null");
-        }
-
-        if (Objects.isNull(signature)) {
-            throw new IllegalArgumentException("signature cannot be null");
-        }
-
-        if (publicKeys.size() != messages.size()) {
-            throw new IllegalArgumentException("The number of public keys must match the number of messages");
-        }
-
-        InvariantResult argCheck = verifyAggregateSignatureArguments(publicKeys.size(), messages.size(), signature);
-        if (argCheck != InvariantResult.CONTINUE) {
-            return argCheck == InvariantResult.GOOD;
-        }
-
-        // Augmenting each message with its corresponding public key
-        final List<Bytes> augmentedMessages = IntStream.range(0, publicKeys.size()).mapToObj(i -> Bytes.concatenate(publicKeys.get(i).serialize(), messages.get(i))).collect(Collectors.toList());
-
-        return super.aggregateVerify(publicKeys, augmentedMessages, signature);
+    Bytes augmentation(PublicKey publicKey) {
+        return publicKey.serialize();
     }
 
     private static class Holder {
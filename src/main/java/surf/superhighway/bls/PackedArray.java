@@ -0,0 +1,182 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Shared storage of {@link PublicKeyArray} and {@link SignatureArray}: fixed-size compressed encodings packed into
+ * one {@code byte[]}, decoded lazily by the subclass.
+ *
+ * @param <E> The element type.
+ */
+abstract class PackedArray<E> {
+
+    private final byte[] encodings;
+    private final int elementSize;
+    private final int size;
+    private volatile boolean validated;
+
+    PackedArray(byte[] encodings, int elementSize, boolean validated) {
+        this.encodings = encodings;
+        this.elementSize = elementSize;
+        this.size = encodings.length / elementSize;
+        this.validated = validated;
+    }
+
+    /**
+     * Copies concatenated encodings after checking that they split into whole elements.
+     */
+    static byte[] copyPacked(final Bytes packed, int elementSize) {
+        if (Objects.isNull(packed)) {
+            throw new IllegalArgumentException("Input bytes cannot be null.");
+        }
+
+        if (packed.size() % elementSize != 0) {
+            throw new IllegalArgumentException("Input size must be a multiple of " + elementSize);
+        }
+
+        return packed.toArray();
+    }
+
+    /**
+     * Concatenates the encodings of the given elements.
+     */
+    static <E> byte[] pack(final List<E> elements, int elementSize, String description, Function<E, Bytes> serializer) {
+        if (Objects.isNull(elements)) {
+            throw new IllegalArgumentException("List of " + description + " cannot be null");
+        }
+
+        byte[] encodings = new byte[elements.size() * elementSize];
+        for (int i = 0; i < elements.size(); i++) {
+            E element = elements.get(i);
+            if (Objects.isNull(element)) {
+                throw new IllegalArgumentException("List of " + description + " cannot contain null");
+            }
+
+            System.arraycopy(serializer.apply(element).toArrayUnsafe(), 0, encodings, i * elementSize, elementSize);
+        }
+
+        return encodings;
+    }
+
+    /**
+     * @return The number of elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Decodes an element.
+     *
+     * @param index The index of the element.
+     * @return The decoded element.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalArgumentException  if the element is not a valid encoding.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return decode(index, validated);
+    }
+
+    /**
+     * Streams the elements, decoding each one only when it is pulled. Suited to
+     * {@link CoreSignatureScheme#aggregateVerifyStreaming(Stream, Stream, Signature)}.
+     *
+     * @return A sequential stream of the decoded elements.
+     */
+    public Stream<E> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    /**
+     * Aggregates every element.
+     *
+     * @return The aggregate, or the point at infinity if the array is empty.
+     * @throws IllegalArgumentException if an element is not a valid encoding.
+     */
+    public E aggregate() {
+        return aggregate(0, size);
+    }
+
+    /**
+     * Aggregates the elements in a range.
+     *
+     * @param from The index of the first element, inclusive.
+     * @param to   The index of the last element, exclusive.
+     * @return The aggregate, or the point at infinity if the range is empty.
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     * @throws IllegalArgumentException  if an element is not a valid encoding.
+     */
+    public E aggregate(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        return aggregate(from, to, validated);
+    }
+
+    /**
+     * Checks that every element decodes to a valid group element, in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}. A positive result is remembered.
+     *
+     * @return true if every element is valid, false otherwise.
+     */
+    public boolean isValid() {
+        if (!validated) {
+            validated = IntStream.range(0, size).parallel().allMatch(this::isValidAt);
+        }
+
+        return validated;
+    }
+
+    /**
+     * @return A copy of the concatenated compressed encodings.
+     */
+    public Bytes toBytes() {
+        return Bytes.wrap(encodings.clone());
+    }
+
+    /**
+     * @return A read-only view of the encoding of an element inside this array.
+     */
+    Bytes bytesAt(int index) {
+        Objects.checkIndex(index, size);
+        return Bytes.wrap(encodings, index * elementSize, elementSize);
+    }
+
+    /**
+     * @return A copy of the encoding of an element, for the native decoder.
+     */
+    byte[] encodingAt(int index) {
+        int offset = index * elementSize;
+        return Arrays.copyOfRange(encodings, offset, offset + elementSize);
+    }
+
+    /**
+     * Decodes an element whose index has already been checked.
+     *
+     * @throws IllegalArgumentException if the element is not a valid encoding.
+     */
+    abstract E decode(int index, boolean validated);
+
+    /**
+     * Aggregates a range that has already been checked.
+     *
+     * @throws IllegalArgumentException if an element is not a valid encoding.
+     */
+    abstract E aggregate(int from, int to, boolean validated);
+
+    abstract boolean isValidElement(E element);
+
+    private boolean isValidAt(int index) {
+        try {
+            return isValidElement(decode(index, false));
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+}
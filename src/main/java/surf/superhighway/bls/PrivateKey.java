@@ -2,9 +2,9 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
-import org.apache.tuweni.bytes.Bytes48;
 import supranational.blst.P1;
 import supranational.blst.P2;
+import supranational.blst.P2_Affine;
 import supranational.blst.Scalar;
 import supranational.blst.SecretKey;
 
@@ -21,6 +21,11 @@ public class PrivateKey {
     private static final BigInteger BLS12_381_r = new BigInteger("73EDA753299D7D483339D80809A1D80553BDA402FFFE5BFEFFFFFFFF00000001", 16);
     final SecretKey blstSecretKey;
 
+    /**
+     * The public key, derived on first use.
+     */
+    private volatile PublicKey publicKey;
+
     private PrivateKey(SecretKey blstSecretKey) {
         this.blstSecretKey = blstSecretKey;
     }
@@ -138,9 +143,14 @@ public class PrivateKey {
         if (Objects.isNull(blstSecretKey)) {
             throw new IllegalStateException("Underlying secret key cannot be null");
         }
-        P1 point = new P1(blstSecretKey);
+        // Derived once, a point computed from a scalar is always in G1
+        PublicKey result = publicKey;
+        if (Objects.isNull(result)) {
+            result = new PublicKey(new P1(blstSecretKey), true);
+            publicKey = result;
+        }
 
-        return PublicKey.fromBytes(Bytes48.wrap(point.compress()));
+        return result;
     }
 
     /**
@@ -182,9 +192,39 @@ public class PrivateKey {
             throw new IllegalArgumentException("Underlying secret key representation cannot be null.");
         }
 
-        P2 point = P2.generator().hash_to(msg.toArray(), dst, null);
+        return signG2(msg, dst, null);
+    }
+
+    /**
+     * Signs a message prefixed with augmentation bytes, which blst hashes ahead of the message.
+     *
+     * @param msg          The message to be signed.
+     * @param dst          Domain separation tag.
+     * @param augmentation The bytes hashed ahead of the message, or null for none.
+     * @return The produced {@link Signature}.
+     */
+    Signature signG2(Bytes msg, String dst, byte[] augmentation) {
+        P2 point = P2.generator().hash_to(msg.toArrayUnsafe(), dst, augmentation);
         point = point.sign_with(blstSecretKey);
-        return new Signature(point);
+        return new Signature(point, true);
+    }
+
+    /**
+     * Signs a message that has already been hashed to G2.
+     *
+     * @param hashedMessage The message hashed to G2 under the signing cipher suite. It is not modified.
+     * @return The produced {@link Signature}.
+     * @throws IllegalArgumentException if the hashed message or underlying private key representation is null.
+     */
+    Signature signHashed(P2_Affine hashedMessage) {
+        if (Objects.isNull(hashedMessage)) {
+            throw new IllegalArgumentException("Hashed message to be signed cannot be null.");
+        }
+        if (Objects.isNull(blstSecretKey)) {
+            throw new IllegalArgumentException("Underlying secret key representation cannot be null.");
+        }
+
+        return new Signature(new P2(hashedMessage).sign_with(blstSecretKey), true);
     }
 
     /**
@@ -248,13 +288,16 @@ public class PrivateKey {
             return false;
         }
 
-        // Compare serialized private key and associated public keys
-        return serialize().equals(otherPrivateKey.serialize()) && Objects.equals(getPublicKey(), otherPrivateKey.getPublicKey());
+        // The cached public keys reject most mismatches before any secret bytes are serialized
+        return getPublicKey().equals(otherPrivateKey.getPublicKey()) && serialize().equals(otherPrivateKey.serialize());
     }
 
+    /**
+     * Hashes the cached public key rather than the secret scalar, so hash codes reveal nothing about the key.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(serialize(), getPublicKey());
+        return getPublicKey().hashCode();
     }
 
 }
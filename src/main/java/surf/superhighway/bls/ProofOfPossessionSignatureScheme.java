@@ -1,8 +1,6 @@
 package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
-import supranational.blst.BLST_ERROR;
-import supranational.blst.P1_Affine;
 import supranational.blst.P2;
 import supranational.blst.P2_Affine;
 
@@ -40,7 +38,7 @@ public class ProofOfPossessionSignatureScheme extends CoreSignatureScheme {
         byte[] publicKeyBytes = publicKey.serialize().toArray();
         P2 hashPoint = new P2().hash_to(publicKeyBytes, CipherSuiteID.BLS_POP_SCHEME_MPL.getStringValue());
 
-        return new Signature(hashPoint.sign_with(privateKey.blstSecretKey));
+        return new Signature(hashPoint.sign_with(privateKey.blstSecretKey), true);
     }
 
     /**
@@ -54,7 +52,6 @@ public class ProofOfPossessionSignatureScheme extends CoreSignatureScheme {
      * @param signatureProof the signature proof associated with the public key
      * @return true if the POP verification is successful, false otherwise
      * @throws IllegalArgumentException if the provided publicKey or signatureProof is null
-     * @throws IllegalStateException    if conversion to affine coordinates fails
      */
     public boolean popVerify(final PublicKey publicKey, final Signature signatureProof) {
 
@@ -66,17 +63,11 @@ public class ProofOfPossessionSignatureScheme extends CoreSignatureScheme {
             throw new IllegalStateException("signatureProof cannot be null");
         }
 
-        P1_Affine publicKeyAffine = publicKey.point.to_affine();
-        P2_Affine signatureAffine = signatureProof.point.to_affine();
-
-        if (Objects.isNull(publicKeyAffine) || Objects.isNull(signatureAffine)) {
-            throw new IllegalStateException("Failed to convert to affine coordinates.");
-        }
-
         byte[] publicKeyBytes = publicKey.serialize().toArray();
+        P2_Affine hashedPublicKey = new P2().hash_to(publicKeyBytes, CipherSuiteID.BLS_POP_SCHEME_MPL.getStringValue()).to_affine();
 
         // Check if the signature proof is a valid POP for the given public key
-        return signatureAffine.core_verify(publicKeyAffine, true, publicKeyBytes, CipherSuiteID.BLS_POP_SCHEME_MPL.getStringValue()) == BLST_ERROR.BLST_SUCCESS;
+        return verifyHashed(publicKey, hashedPublicKey, signatureProof);
     }
 
     /**
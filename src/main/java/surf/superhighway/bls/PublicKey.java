@@ -1,27 +1,57 @@
 package surf.superhighway.bls;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
 import org.apache.tuweni.units.bigints.UInt32;
 import surf.superhighway.util.Util;
 import supranational.blst.P1;
+import supranational.blst.P1_Affine;
 import supranational.blst.Scalar;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 public class PublicKey {
 
-    public static final PublicKey ZERO = new PublicKey(new P1());
+    public static final int SIZE = 48;
+    public static final int UNCOMPRESSED_SIZE = 96;
+    public static final PublicKey ZERO = new PublicKey(new P1(), true);
 
     final P1 point;
 
+    /**
+     * Whether the point is known to be a valid element of G1, so {@link #isValid()} need not check it again.
+     */
+    private volatile boolean validated;
+
+    /**
+     * The point in affine form, computed on first use. The point never changes, so racing threads at worst
+     * compute the same value twice.
+     */
+    private volatile P1_Affine affine;
+
+    /**
+     * The compressed encoding and fingerprint, computed on first use.
+     */
+    private volatile Bytes48 encoding;
+    private volatile UInt32 fingerprint;
+
+    /**
+     * The hash code, computed on first use; 0 until then. Racing threads compute the same value.
+     */
+    private int hashCode;
+
     PublicKey(P1 publicKeyPoint) {
+        this(publicKeyPoint, false);
+    }
+
+    PublicKey(P1 publicKeyPoint, boolean validated) {
         this.point = publicKeyPoint;
+        this.validated = validated;
     }
 
     public static PublicKey generate() {
-        return new PublicKey(P1.generator());
+        return new PublicKey(P1.generator(), true);
     }
 
     /**
@@ -61,6 +91,48 @@ public class PublicKey {
         return new PublicKey(point);
     }
 
+    /**
+     * Constructs a PublicKey from its 96-byte uncompressed encoding, as produced by {@link #serializeUncompressed()},
+     * and checks that it is a valid element of G1. Decoding skips the square root needed for compressed encodings.
+     *
+     * @param bytes The uncompressed encoding.
+     * @return The constructed PublicKey.
+     * @throws IllegalArgumentException If the input bytes are null, not 96 bytes long, or invalid for a PublicKey.
+     */
+    public static PublicKey fromBytesUncompressed(Bytes bytes) {
+        PublicKey decoded = fromBytesUncompressedUnchecked(bytes);
+        if (!decoded.isValid()) {
+            throw new IllegalArgumentException("PublicKey is invalid");
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Constructs a PublicKey from its 96-byte uncompressed encoding without the subgroup check.
+     * The point is still checked to lie on the curve.
+     *
+     * @param bytes The uncompressed encoding.
+     * @return The constructed PublicKey.
+     * @throws IllegalArgumentException If the input bytes are null, not 96 bytes long, or not a point on the curve.
+     */
+    public static PublicKey fromBytesUncompressedUnchecked(Bytes bytes) {
+        if (Objects.isNull(bytes)) {
+            throw new IllegalArgumentException("Input bytes cannot be null.");
+        }
+
+        // blst would silently read only the first half of an encoding carrying the compression flag
+        if (bytes.size() != UNCOMPRESSED_SIZE || (bytes.get(0) & 0x80) != 0) {
+            throw new IllegalArgumentException("Uncompressed encoding must be " + UNCOMPRESSED_SIZE + " bytes without the compression flag");
+        }
+
+        try {
+            return new PublicKey(new P1(bytes.toArrayUnsafe()));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("PublicKey is invalid");
+        }
+    }
+
     /**
      * Creates a copy of the current PublicKey instance.
      *
@@ -72,7 +144,7 @@ public class PublicKey {
             throw new IllegalArgumentException("Internal point data cannot be null.");
         }
 
-        return new PublicKey(point.dup());
+        return new PublicKey(point.dup(), validated);
     }
 
 
@@ -87,7 +159,24 @@ public class PublicKey {
             throw new IllegalArgumentException("Internal point data cannot be null.");
         }
 
-        return Bytes48.wrap(point.compress());
+        Bytes48 result = encoding;
+        if (Objects.isNull(result)) {
+            // Compressing an affine point skips the inversion the projective one needs
+            P1_Affine normalized = affine;
+            result = Bytes48.wrap(Objects.isNull(normalized) ? point.compress() : normalized.compress());
+            encoding = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Serializes the PublicKey to its 96-byte uncompressed form, which decodes faster than the compressed one.
+     *
+     * @return The uncompressed byte representation of the PublicKey.
+     */
+    public Bytes serializeUncompressed() {
+        return Bytes.wrap(point.serialize());
     }
 
 
@@ -98,14 +187,20 @@ public class PublicKey {
      * @throws IllegalArgumentException If the serialized representation of the PublicKey is invalid.
      */
     public UInt32 getFingerprint() {
-        Bytes32 hash;
-        try {
-            hash = Bytes32.wrap(Util.hash256(serialize()));
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Error while hashing serialized PublicKey.", e);
+        UInt32 result = fingerprint;
+        if (Objects.isNull(result)) {
+            Bytes32 hash;
+            try {
+                hash = Bytes32.wrap(Util.hash256(serialize()));
+            } catch (Exception e) {
+                throw new IllegalArgumentException("Error while hashing serialized PublicKey.", e);
+            }
+
+            result = Util.fourBytesToInt(hash);
+            fingerprint = result;
         }
 
-        return Util.fourBytesToInt(hash);
+        return result;
     }
 
     /**
@@ -115,14 +210,7 @@ public class PublicKey {
      * @throws IllegalArgumentException If the serialized representation of the PublicKey is invalid.
      */
     public String getFingerprintAsDecimalString() {
-        Bytes32 hash;
-        try {
-            hash = Bytes32.wrap(Util.hash256(serialize()));
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Error while hashing serialized PublicKey.", e);
-        }
-
-        return Util.fourBytesToInt(hash).toDecimalString();
+        return getFingerprint().toDecimalString();
     }
 
     /**
@@ -132,14 +220,7 @@ public class PublicKey {
      * @throws IllegalArgumentException If the serialized representation of the PublicKey is invalid.
      */
     public String getFingerprintAsHexString() {
-        Bytes32 hash;
-        try {
-            hash = Bytes32.wrap(Util.hash256(serialize()));
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Error while hashing serialized PublicKey.", e);
-        }
-
-        return Util.fourBytesToInt(hash).toHexString();
+        return getFingerprint().toHexString();
     }
 
     /**
@@ -160,7 +241,7 @@ public class PublicKey {
         P1 negatedPoint = point.dup();
         negatedPoint.neg();
 
-        return new PublicKey(negatedPoint);
+        return new PublicKey(negatedPoint, validated);
     }
 
 
@@ -187,7 +268,7 @@ public class PublicKey {
 
         P1 resultPoint = point.dup().add(other.point);
 
-        return new PublicKey(resultPoint);
+        return new PublicKey(resultPoint, validated && other.validated);
     }
 
 
@@ -211,7 +292,7 @@ public class PublicKey {
         otherPointScalar.from_bendian(other.point.serialize());
         P1 resultPoint = point.dup().mult(otherPointScalar);
 
-        return new PublicKey(resultPoint);
+        return new PublicKey(resultPoint, validated);
     }
 
     /**
@@ -219,21 +300,49 @@ public class PublicKey {
      * <p>
      * A point is considered valid if it belongs to the G1 group or if it represents the
      * point at infinity (based on historical compatibility with older Relic versions).
+     * The subgroup check runs at most once per PublicKey; a positive result is remembered.
      * </p>
      *
      * @return true if the point is valid, false otherwise.
      */
     public boolean isValid() {
+        if (validated) {
+            return true;
+        }
 
         // https://github.com/Chia-Network/bls-signatures/blob/7f10927337a1903f8295f68e6d16b6b3c478667a/src/elements.cpp#L125
         // Infinity was considered a valid G1Element in older Relic versions
         // on which chia bls signatures library was previously based.
         // For historical compatibility this behavior is maintained.
-        if (point.is_inf()) {
-            return true;
+        if (point.is_inf() || point.in_group()) {
+            validated = true;
+        }
+
+        return validated;
+    }
+
+    /**
+     * Tells whether this PublicKey is already known to be valid, without checking it.
+     *
+     * @return true if a previous check, or the way this PublicKey was built, established that it is valid.
+     */
+    boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * Returns the point in affine form, converting it on the first call only.
+     *
+     * @return The affine point. Callers must not modify it.
+     */
+    P1_Affine toAffine() {
+        P1_Affine result = affine;
+        if (Objects.isNull(result)) {
+            result = point.to_affine();
+            affine = result;
         }
 
-        return point.in_group();
+        return result;
     }
 
 
@@ -264,13 +373,23 @@ public class PublicKey {
             return false;
         }
 
+        // Cached encodings are canonical, comparing them avoids the projective comparison
+        Bytes48 thisEncoding = encoding;
+        Bytes48 otherEncoding = otherPublicKey.encoding;
+        if (Objects.nonNull(thisEncoding) && Objects.nonNull(otherEncoding)) {
+            return thisEncoding.equals(otherEncoding);
+        }
+
         return point.is_equal(otherPublicKey.point);
     }
 
     @Override
     public int hashCode() {
-        int result = 17;
-        result = 31 * result + (point != null ? Arrays.hashCode(point.serialize()) : 0);
+        int result = hashCode;
+        if (result == 0) {
+            result = 31 * 17 + serialize().hashCode();
+            hashCode = result;
+        }
         return result;
     }
 
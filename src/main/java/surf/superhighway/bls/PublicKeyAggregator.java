@@ -0,0 +1,50 @@
+package surf.superhighway.bls;
+
+import java.util.Objects;
+
+/**
+ * Aggregates public keys added concurrently from any number of threads.
+ * <p>
+ * Additions land in striped partial sums, so threads adding at the same time rarely contend, and the stripes are
+ * only folded together when {@link #result()} is called. The aggregate is known to be valid only when every added
+ * PublicKey was; otherwise {@code isValid()} checks it on demand.
+ * </p>
+ */
+public class PublicKeyAggregator {
+
+    private final StripedSum<PublicKey, ?, PublicKey> sum = new StripedSum<>(AggregationCollectors.toAggregatePublicKey());
+
+    /**
+     * Adds a PublicKey to the aggregate. Safe to call from any thread.
+     *
+     * @param publicKey The PublicKey to add.
+     * @throws IllegalArgumentException if publicKey is null.
+     */
+    public void add(final PublicKey publicKey) {
+        if (Objects.isNull(publicKey)) {
+            throw new IllegalArgumentException("publicKey cannot be null");
+        }
+
+        sum.add(publicKey);
+    }
+
+    /**
+     * Returns the aggregate of every PublicKey added so far, or the point at infinity if none was.
+     * Additions running concurrently with this call may or may not be included.
+     *
+     * @return The aggregated PublicKey.
+     */
+    public PublicKey result() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the aggregate of every PublicKey added so far and starts over from an empty aggregate.
+     * Each concurrent addition is included either in the returned aggregate or in the next one.
+     *
+     * @return The aggregated PublicKey.
+     */
+    public PublicKey resultThenReset() {
+        return sum.sumThenReset();
+    }
+}
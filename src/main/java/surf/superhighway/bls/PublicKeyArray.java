@@ -0,0 +1,103 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import supranational.blst.P1;
+
+import java.util.List;
+
+/**
+ * A compact, immutable sequence of public keys stored as their compressed encodings in one contiguous array.
+ * <p>
+ * Holding N public keys costs a single {@code byte[]} of N * PublicKey.SIZE bytes instead of N {@link PublicKey} objects with
+ * their native points. Elements are only decoded when they are used, and transient decoded points are dropped
+ * right away. An array built with {@link #fromBytes(Bytes)} or {@link #of(List)} is validated as a whole, so the
+ * public keys it hands out skip the subgroup check.
+ * </p>
+ */
+public final class PublicKeyArray extends PackedArray<PublicKey> {
+
+    private PublicKeyArray(byte[] encodings, boolean validated) {
+        super(encodings, PublicKey.SIZE, validated);
+    }
+
+    /**
+     * Builds an array from concatenated compressed encodings, decoding and subgroup-checking every element.
+     * The elements are checked in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param packed The concatenated encodings. They are copied.
+     * @return The validated array.
+     * @throws IllegalArgumentException if packed is null, its size is not a multiple of PublicKey.SIZE, or any element is invalid.
+     */
+    public static PublicKeyArray fromBytes(final Bytes packed) {
+        PublicKeyArray array = fromBytesUnchecked(packed);
+        if (!array.isValid()) {
+            throw new IllegalArgumentException("PublicKeyArray contains an invalid public key");
+        }
+
+        return array;
+    }
+
+    /**
+     * Builds an array from concatenated compressed encodings without decoding them.
+     * Invalid elements are only detected when they are used or by {@link #isValid()}.
+     *
+     * @param packed The concatenated encodings. They are copied.
+     * @return The array.
+     * @throws IllegalArgumentException if packed is null or its size is not a multiple of PublicKey.SIZE.
+     */
+    public static PublicKeyArray fromBytesUnchecked(final Bytes packed) {
+        return new PublicKeyArray(copyPacked(packed, PublicKey.SIZE), false);
+    }
+
+    /**
+     * Packs the given public keys into an array.
+     *
+     * @param publicKeys The public keys to pack.
+     * @return The array, validated if every element was already known to be valid.
+     * @throws IllegalArgumentException if the list or any of its elements is null.
+     */
+    public static PublicKeyArray of(final List<PublicKey> publicKeys) {
+        byte[] encodings = pack(publicKeys, PublicKey.SIZE, "public keys", PublicKey::serialize);
+        return new PublicKeyArray(encodings, publicKeys.stream().allMatch(PublicKey::isValidated));
+    }
+
+    /**
+     * Returns the compressed encoding of an element without decoding it.
+     *
+     * @param index The index of the element.
+     * @return A read-only view of the encoding inside this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Bytes48 getBytes(int index) {
+        return Bytes48.wrap(bytesAt(index));
+    }
+
+    @Override
+    PublicKey decode(int index, boolean validated) {
+        return new PublicKey(point(index), validated);
+    }
+
+    @Override
+    PublicKey aggregate(int from, int to, boolean validated) {
+        P1 aggregated = new P1();
+        for (int i = from; i < to; i++) {
+            aggregated.add(point(i));
+        }
+
+        return new PublicKey(aggregated, validated);
+    }
+
+    @Override
+    boolean isValidElement(PublicKey element) {
+        return element.isValid();
+    }
+
+    private P1 point(int index) {
+        try {
+            return new P1(encodingAt(index));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("PublicKey at index " + index + " is invalid");
+        }
+    }
+}
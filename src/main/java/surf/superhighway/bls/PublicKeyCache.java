@@ -0,0 +1,119 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes48;
+import surf.superhighway.util.BoundedCache;
+import surf.superhighway.util.EvictionPolicy;
+
+import java.util.Objects;
+
+/**
+ * Interns decompressed, subgroup-checked public keys by their 48-byte compressed encoding.
+ * <p>
+ * {@link #fromBytes(Bytes48)} behaves like {@link PublicKey#fromBytes(Bytes48)}, but returns the same validated
+ * instance for an encoding it has seen recently, skipping the decompression and subgroup check.
+ * {@link PublicKey} instances are immutable, so sharing them between callers is safe.
+ * </p>
+ */
+public class PublicKeyCache {
+
+    private final BoundedCache<Bytes48, PublicKey> publicKeys;
+
+    /**
+     * Creates a cache that evicts the least recently used keys.
+     *
+     * @param capacity The maximum number of keys kept.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public PublicKeyCache(int capacity) {
+        this(capacity, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity       The maximum number of keys kept.
+     * @param evictionPolicy Which keys to evict when the cache is full.
+     * @throws IllegalArgumentException if capacity is not positive or evictionPolicy is null.
+     */
+    public PublicKeyCache(int capacity, final EvictionPolicy evictionPolicy) {
+        this.publicKeys = new BoundedCache<>(capacity, evictionPolicy);
+    }
+
+    /**
+     * Returns the validated PublicKey for the given compressed encoding, decoding it only if it is not cached.
+     *
+     * @param bytes The compressed encoding of the PublicKey.
+     * @return The validated PublicKey.
+     * @throws IllegalArgumentException If the input bytes are null or invalid for a PublicKey.
+     */
+    public PublicKey fromBytes(final Bytes48 bytes) {
+        if (Objects.isNull(bytes)) {
+            throw new IllegalArgumentException("Input bytes cannot be null.");
+        }
+
+        PublicKey publicKey = publicKeys.get(bytes);
+        if (Objects.isNull(publicKey)) {
+            publicKey = PublicKey.fromBytes(bytes);
+            // Copy the key, the caller may reuse the array behind the encoding
+            publicKeys.put(Bytes48.wrap(bytes.toArray()), publicKey);
+        }
+
+        return publicKey;
+    }
+
+    /**
+     * Removes every cached key. Statistics are kept.
+     */
+    public void clear() {
+        publicKeys.clear();
+    }
+
+    /**
+     * @return The number of cached keys.
+     */
+    public int size() {
+        return publicKeys.size();
+    }
+
+    /**
+     * @return The maximum number of cached keys.
+     */
+    public int capacity() {
+        return publicKeys.capacity();
+    }
+
+    /**
+     * @return The policy deciding which keys are evicted.
+     */
+    public EvictionPolicy evictionPolicy() {
+        return publicKeys.evictionPolicy();
+    }
+
+    /**
+     * @return The number of lookups that found a cached key.
+     */
+    public long hitCount() {
+        return publicKeys.hitCount();
+    }
+
+    /**
+     * @return The number of lookups that had to decode the key.
+     */
+    public long missCount() {
+        return publicKeys.missCount();
+    }
+
+    /**
+     * @return The number of keys evicted to make room for new ones.
+     */
+    public long evictionCount() {
+        return publicKeys.evictionCount();
+    }
+
+    /**
+     * @return The fraction of lookups that found a cached key, or 0 if there were no lookups yet.
+     */
+    public double hitRate() {
+        return publicKeys.hitRate();
+    }
+}
@@ -0,0 +1,364 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes48;
+import org.apache.tuweni.units.bigints.UInt32;
+import surf.superhighway.util.Util;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A read-only set of public keys kept in a memory-mapped file, with an on-disk hash index keyed by fingerprint.
+ * <p>
+ * Opening a registry only maps the file, so it takes the same time for a thousand keys as for millions. Keys
+ * are decoded one at a time when they are looked up and the operating system pages the file in on demand.
+ * A registry is written once with {@link #write(Path, List, boolean)} and then opened with {@link #open(Path)}.
+ * </p>
+ * <p>
+ * File layout, all integers big-endian:
+ * <ul>
+ *     <li>header: magic (8 bytes), version, flags, key count, index slot count (4 bytes each)</li>
+ *     <li>records: for every key its compressed encoding, followed by its 96-byte uncompressed encoding if the
+ *     {@code uncompressed} flag is set</li>
+ *     <li>index: open-addressing table of (fingerprint, key index + 1) slots, 0 marking an empty slot</li>
+ * </ul>
+ * The file must stay below 2 GiB, the most a single mapping can address.
+ * </p>
+ */
+public class PublicKeyRegistry implements AutoCloseable {
+
+    private static final long MAGIC = 0x424C53504B524547L; // "BLSPKREG"
+    private static final int VERSION = 1;
+    private static final int FLAG_UNCOMPRESSED = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int SLOT_SIZE = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final boolean trusted;
+    private final boolean uncompressed;
+    private final int size;
+    private final int recordSize;
+    private final int slotMask;
+    private final int indexOffset;
+
+    private PublicKeyRegistry(FileChannel channel, MappedByteBuffer buffer, boolean trusted) throws IOException {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.trusted = trusted;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getLong(0) != MAGIC) {
+            throw new IOException("Not a public key registry file");
+        }
+
+        if (buffer.getInt(8) != VERSION) {
+            throw new IOException("Unsupported public key registry version " + buffer.getInt(8));
+        }
+
+        this.uncompressed = (buffer.getInt(12) & FLAG_UNCOMPRESSED) != 0;
+        this.size = buffer.getInt(16);
+        int slotCount = buffer.getInt(20);
+        this.recordSize = PublicKey.SIZE + (uncompressed ? PublicKey.UNCOMPRESSED_SIZE : 0);
+        this.slotMask = slotCount - 1;
+        long recordsEnd = HEADER_SIZE + (long) size * recordSize;
+
+        if (size < 0 || Integer.bitCount(slotCount) != 1 || slotCount <= size || recordsEnd + (long) slotCount * SLOT_SIZE != buffer.capacity()) {
+            throw new IOException("Corrupt public key registry file");
+        }
+
+        this.indexOffset = (int) recordsEnd;
+    }
+
+    /**
+     * Writes a registry file holding the given keys, replacing any existing file.
+     *
+     * @param path                The file to write.
+     * @param publicKeys          The keys to store. Duplicates are kept; lookups find the first occurrence.
+     * @param includeUncompressed Whether to also store uncompressed encodings, which decode faster at the cost of
+     *                            three times the space.
+     * @throws IOException              if the file cannot be written.
+     * @throws IllegalArgumentException if any argument or key is null, any key is invalid, or the file would exceed 2 GiB.
+     */
+    public static void write(final Path path, final List<PublicKey> publicKeys, boolean includeUncompressed) throws IOException {
+        if (Objects.isNull(path)) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("List of publicKeys cannot be null");
+        }
+
+        int recordSize = PublicKey.SIZE + (includeUncompressed ? PublicKey.UNCOMPRESSED_SIZE : 0);
+        // Keep the index at most half full so probe sequences stay short
+        int slotCount = Integer.highestOneBit(Math.max(1, publicKeys.size()) * 2 - 1) << 1;
+        if ((long) HEADER_SIZE + (long) publicKeys.size() * recordSize + (long) slotCount * SLOT_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many public keys for a single registry file");
+        }
+
+        int[] slotFingerprints = new int[slotCount];
+        int[] slotEntries = new int[slotCount];
+
+        try (OutputStream fileStream = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileStream, 1 << 16))) {
+            out.writeLong(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(includeUncompressed ? FLAG_UNCOMPRESSED : 0);
+            out.writeInt(publicKeys.size());
+            out.writeInt(slotCount);
+
+            for (int i = 0; i < publicKeys.size(); i++) {
+                PublicKey publicKey = publicKeys.get(i);
+                if (Objects.isNull(publicKey)) {
+                    throw new IllegalArgumentException("List of publicKeys cannot contain null");
+                }
+
+                if (!publicKey.isValid()) {
+                    throw new IllegalArgumentException("PublicKey at index " + i + " is invalid");
+                }
+
+                out.write(publicKey.serialize().toArrayUnsafe());
+                if (includeUncompressed) {
+                    out.write(publicKey.serializeUncompressed().toArrayUnsafe());
+                }
+
+                int fingerprint = publicKey.getFingerprint().intValue();
+                int slot = fingerprint & (slotCount - 1);
+                while (slotEntries[slot] != 0) {
+                    slot = (slot + 1) & (slotCount - 1);
+                }
+                slotFingerprints[slot] = fingerprint;
+                slotEntries[slot] = i + 1;
+            }
+
+            for (int slot = 0; slot < slotCount; slot++) {
+                out.writeInt(slotFingerprints[slot]);
+                out.writeInt(slotEntries[slot]);
+            }
+        }
+    }
+
+    /**
+     * Maps a registry file. Keys handed out are subgroup-checked on first use, as after
+     * {@link PublicKey#fromBytesUnchecked(Bytes48)}.
+     *
+     * @param path The file to open.
+     * @return The registry.
+     * @throws IOException              if the file cannot be mapped or is not a valid registry.
+     * @throws IllegalArgumentException if path is null.
+     */
+    public static PublicKeyRegistry open(final Path path) throws IOException {
+        return open(path, false);
+    }
+
+    /**
+     * Maps a registry file that this application wrote itself. Keys handed out are marked valid without a
+     * subgroup check, since {@link #write(Path, List, boolean)} only stores valid keys. Only use this for files
+     * that cannot have been altered by anyone else.
+     *
+     * @param path The file to open.
+     * @return The registry.
+     * @throws IOException              if the file cannot be mapped or is not a valid registry.
+     * @throws IllegalArgumentException if path is null.
+     */
+    public static PublicKeyRegistry openTrusted(final Path path) throws IOException {
+        return open(path, true);
+    }
+
+    private static PublicKeyRegistry open(final Path path, boolean trusted) throws IOException {
+        if (Objects.isNull(path)) {
+            throw new IllegalArgumentException("path cannot be null");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Public key registry file is larger than 2 GiB");
+            }
+
+            return new PublicKeyRegistry(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), trusted);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return The number of keys in the registry.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return Whether the registry stores uncompressed encodings next to the compressed ones.
+     */
+    public boolean hasUncompressed() {
+        return uncompressed;
+    }
+
+    /**
+     * Returns the compressed encoding of a key without decoding it.
+     *
+     * @param index The index of the key.
+     * @return A copy of the compressed encoding.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Bytes48 getBytes(int index) {
+        Objects.checkIndex(index, size);
+
+        byte[] encoding = new byte[PublicKey.SIZE];
+        buffer.get(recordOffset(index), encoding);
+        return Bytes48.wrap(encoding);
+    }
+
+    /**
+     * Decodes a key, from its uncompressed encoding if the registry has one. Unless the registry was opened
+     * trusted, the uncompressed encoding must describe the same key as the compressed one, which lookups match on.
+     *
+     * @param index The index of the key.
+     * @return The decoded key.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws IllegalArgumentException  if the stored encoding is corrupt.
+     */
+    public PublicKey get(int index) {
+        Bytes48 compressed = getBytes(index);
+
+        PublicKey decoded;
+        try {
+            if (uncompressed) {
+                byte[] encoding = new byte[PublicKey.UNCOMPRESSED_SIZE];
+                buffer.get(recordOffset(index) + PublicKey.SIZE, encoding);
+                decoded = PublicKey.fromBytesUncompressedUnchecked(Bytes.wrap(encoding));
+            } else {
+                decoded = PublicKey.fromBytesUnchecked(compressed);
+            }
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("PublicKey at index " + index + " is invalid");
+        }
+
+        if (trusted) {
+            return new PublicKey(decoded.point, true);
+        }
+
+        if (uncompressed && !decoded.serialize().equals(compressed)) {
+            throw new IllegalArgumentException("PublicKey at index " + index + " is invalid");
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Finds a key by its compressed encoding through the fingerprint index.
+     *
+     * @param encoding The compressed encoding to look for.
+     * @return The index of the first matching key, or -1 if the registry does not contain it.
+     * @throws IllegalArgumentException if encoding is null.
+     * @throws IllegalStateException    if the index is corrupt.
+     */
+    public int indexOf(final Bytes48 encoding) {
+        if (Objects.isNull(encoding)) {
+            throw new IllegalArgumentException("encoding cannot be null");
+        }
+
+        int fingerprint = Util.fourBytesToInt(Util.hash256(encoding)).intValue();
+        byte[] candidate = new byte[PublicKey.SIZE];
+
+        // Keys sharing a fingerprint share a probe sequence, in which earlier keys come first
+        int slot = fingerprint & slotMask;
+        for (int probes = 0; probes <= slotMask && slotEntry(slot) != 0; probes++, slot = (slot + 1) & slotMask) {
+            if (slotFingerprint(slot) == fingerprint) {
+                int index = slotEntry(slot) - 1;
+                buffer.get(recordOffset(index), candidate);
+                if (Bytes48.wrap(candidate).equals(encoding)) {
+                    return index;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param publicKey The key to look for.
+     * @return Whether the registry contains the key.
+     * @throws IllegalArgumentException if publicKey is null.
+     * @throws IllegalStateException    if the index is corrupt.
+     */
+    public boolean contains(final PublicKey publicKey) {
+        if (Objects.isNull(publicKey)) {
+            throw new IllegalArgumentException("publicKey cannot be null");
+        }
+
+        return indexOf(publicKey.serialize()) >= 0;
+    }
+
+    /**
+     * Finds every key with the given fingerprint. Fingerprints are only 32 bits, so distinct keys can share one.
+     *
+     * @param fingerprint The fingerprint, as returned by {@link PublicKey#getFingerprint()}.
+     * @return The matching keys in registry order, possibly empty.
+     * @throws IllegalArgumentException if fingerprint is null or a stored encoding is corrupt.
+     * @throws IllegalStateException    if the index is corrupt.
+     */
+    public List<PublicKey> findByFingerprint(final UInt32 fingerprint) {
+        if (Objects.isNull(fingerprint)) {
+            throw new IllegalArgumentException("fingerprint cannot be null");
+        }
+
+        int value = fingerprint.intValue();
+        // Keys sharing a fingerprint share a probe sequence, in which earlier keys come first
+        List<Integer> indices = new ArrayList<>();
+        int slot = value & slotMask;
+        for (int probes = 0; probes <= slotMask && slotEntry(slot) != 0; probes++, slot = (slot + 1) & slotMask) {
+            if (slotFingerprint(slot) == value) {
+                indices.add(slotEntry(slot) - 1);
+            }
+        }
+
+        List<PublicKey> publicKeys = new ArrayList<>(indices.size());
+        for (int index : indices) {
+            publicKeys.add(get(index));
+        }
+
+        return publicKeys;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released by the garbage collector once the registry is unreachable.
+     *
+     * @throws IOException if the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int recordOffset(int index) {
+        return HEADER_SIZE + index * recordSize;
+    }
+
+    private int slotFingerprint(int slot) {
+        return buffer.getInt(indexOffset + slot * SLOT_SIZE);
+    }
+
+    // Entries are checked as lookups pass them rather than on open, so that opening does not touch the index
+    private int slotEntry(int slot) {
+        int entry = buffer.getInt(indexOffset + slot * SLOT_SIZE + 4);
+        if (entry < 0 || entry > size) {
+            throw new IllegalStateException("Corrupt public key registry file");
+        }
+
+        return entry;
+    }
+}
@@ -2,23 +2,50 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 import supranational.blst.P2;
+import supranational.blst.P2_Affine;
 import supranational.blst.Scalar;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 public class Signature {
 
     public static final int SIZE = 96;
-    public static final Signature ZERO = new Signature(new P2());
+    public static final int UNCOMPRESSED_SIZE = 192;
+    public static final Signature ZERO = new Signature(new P2(), true);
     final P2 point;
 
+    /**
+     * Whether the point is known to be a valid element of G2, so {@link #isValid()} need not check it again.
+     */
+    private volatile boolean validated;
+
+    /**
+     * The point in affine form, computed on first use. The point never changes, so racing threads at worst
+     * compute the same value twice.
+     */
+    private volatile P2_Affine affine;
+
+    /**
+     * The compressed encoding, computed on first use.
+     */
+    private volatile Bytes encoding;
+
+    /**
+     * The hash code, computed on first use; 0 until then. Racing threads compute the same value.
+     */
+    private int hashCode;
+
     Signature(P2 point) {
+        this(point, false);
+    }
+
+    Signature(P2 point, boolean validated) {
         this.point = point;
+        this.validated = validated;
     }
 
     public static Signature generate() {
-        return new Signature(P2.generator());
+        return new Signature(P2.generator(), true);
     }
 
     /**
@@ -46,6 +73,48 @@ public class Signature {
         return new Signature(point);
     }
 
+    /**
+     * Constructs a Signature from its 192-byte uncompressed encoding, as produced by {@link #serializeUncompressed()},
+     * and checks that it is a valid element of G2. Decoding skips the square root needed for compressed encodings.
+     *
+     * @param bytes The uncompressed encoding.
+     * @return The constructed Signature.
+     * @throws IllegalArgumentException If the input bytes are null, not 192 bytes long, or invalid for a Signature.
+     */
+    public static Signature fromBytesUncompressed(Bytes bytes) {
+        Signature decoded = fromBytesUncompressedUnchecked(bytes);
+        if (!decoded.isValid()) {
+            throw new IllegalArgumentException("Signature is invalid");
+        }
+
+        return decoded;
+    }
+
+    /**
+     * Constructs a Signature from its 192-byte uncompressed encoding without the subgroup check.
+     * The point is still checked to lie on the curve.
+     *
+     * @param bytes The uncompressed encoding.
+     * @return The constructed Signature.
+     * @throws IllegalArgumentException If the input bytes are null, not 192 bytes long, or not a point on the curve.
+     */
+    public static Signature fromBytesUncompressedUnchecked(Bytes bytes) {
+        if (Objects.isNull(bytes)) {
+            throw new IllegalArgumentException("Input bytes cannot be null.");
+        }
+
+        // blst would silently read only the first half of an encoding carrying the compression flag
+        if (bytes.size() != UNCOMPRESSED_SIZE || (bytes.get(0) & 0x80) != 0) {
+            throw new IllegalArgumentException("Uncompressed encoding must be " + UNCOMPRESSED_SIZE + " bytes without the compression flag");
+        }
+
+        try {
+            return new Signature(new P2(bytes.toArrayUnsafe()));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Signature is invalid");
+        }
+    }
+
     /**
      * Serializes the public key to its compressed form.
      *
@@ -57,7 +126,22 @@ public class Signature {
             throw new IllegalArgumentException("Public key's point cannot be null.");
         }
 
-        return Bytes.wrap(point.compress());
+        Bytes result = encoding;
+        if (Objects.isNull(result)) {
+            result = Bytes.wrap(point.compress());
+            encoding = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Serializes the Signature to its 192-byte uncompressed form, which decodes faster than the compressed one.
+     *
+     * @return The uncompressed byte representation of the Signature.
+     */
+    public Bytes serializeUncompressed() {
+        return Bytes.wrap(point.serialize());
     }
 
     /**
@@ -76,7 +160,7 @@ public class Signature {
 
         P2 negatedPoint = point.dup().neg();
 
-        return new Signature(negatedPoint);
+        return new Signature(negatedPoint, validated);
     }
 
     /**
@@ -96,7 +180,7 @@ public class Signature {
         }
 
         P2 resultPoint = point.dup().add(other.point);
-        return new Signature(resultPoint);
+        return new Signature(resultPoint, validated && other.validated);
     }
 
     /**
@@ -124,7 +208,7 @@ public class Signature {
         otherPointScalar.from_bendian(other.point.serialize());
         P2 resultPoint = point.dup().mult(otherPointScalar);
 
-        return new Signature(resultPoint);
+        return new Signature(resultPoint, validated);
     }
 
 
@@ -139,7 +223,7 @@ public class Signature {
             throw new IllegalArgumentException("Internal point of the Signature cannot be null.");
         }
 
-        return new Signature(point.dup());
+        return new Signature(point.dup(), validated);
     }
 
     /**
@@ -147,21 +231,49 @@ public class Signature {
      * <p>
      * A point is considered valid if it belongs to the G2 group or if it represents the
      * point at infinity (based on historical compatibility with older Relic versions).
+     * The subgroup check runs at most once per Signature; a positive result is remembered.
      * </p>
      *
      * @return true if the point is valid, false otherwise.
      */
     public boolean isValid() {
+        if (validated) {
+            return true;
+        }
 
         // https://github.com/Chia-Network/bls-signatures/blob/7f10927337a1903f8295f68e6d16b6b3c478667a/src/elements.cpp#L297
         // Infinity was considered a valid G2Element in older Relic versions
         // on which chia bls signatures library was previously based.
         // For historical compatibility this behavior is maintained.
-        if (point.is_inf()) {
-            return true;
+        if (point.is_inf() || point.in_group()) {
+            validated = true;
         }
 
-        return point.in_group();
+        return validated;
+    }
+
+    /**
+     * Tells whether this Signature is already known to be valid, without checking it.
+     *
+     * @return true if a previous check, or the way this Signature was built, established that it is valid.
+     */
+    boolean isValidated() {
+        return validated;
+    }
+
+    /**
+     * Returns the point in affine form, converting it on the first call only.
+     *
+     * @return The affine point. Callers must not modify it.
+     */
+    P2_Affine toAffine() {
+        P2_Affine result = affine;
+        if (Objects.isNull(result)) {
+            result = point.to_affine();
+            affine = result;
+        }
+
+        return result;
     }
 
     /**
@@ -198,13 +310,23 @@ public class Signature {
             return false;
         }
 
+        // Cached encodings are canonical, comparing them avoids the projective comparison
+        Bytes thisEncoding = encoding;
+        Bytes otherEncoding = otherSignature.encoding;
+        if (Objects.nonNull(thisEncoding) && Objects.nonNull(otherEncoding)) {
+            return thisEncoding.equals(otherEncoding);
+        }
+
         return point.is_equal(otherSignature.point);
     }
 
     @Override
     public int hashCode() {
-        int result = 17;
-        result = 31 * result + (point != null ? Arrays.hashCode(point.serialize()) : 0);
+        int result = hashCode;
+        if (result == 0) {
+            result = 31 * 17 + serialize().hashCode();
+            hashCode = result;
+        }
         return result;
     }
 
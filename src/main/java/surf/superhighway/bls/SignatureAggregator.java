@@ -0,0 +1,50 @@
+package surf.superhighway.bls;
+
+import java.util.Objects;
+
+/**
+ * Aggregates signatures added concurrently from any number of threads.
+ * <p>
+ * Additions land in striped partial sums, so threads adding at the same time rarely contend, and the stripes are
+ * only folded together when {@link #result()} is called. The aggregate is known to be valid only when every added
+ * Signature was; otherwise {@code isValid()} checks it on demand.
+ * </p>
+ */
+public class SignatureAggregator {
+
+    private final StripedSum<Signature, ?, Signature> sum = new StripedSum<>(AggregationCollectors.toAggregateSignature());
+
+    /**
+     * Adds a Signature to the aggregate. Safe to call from any thread.
+     *
+     * @param signature The Signature to add.
+     * @throws IllegalArgumentException if signature is null.
+     */
+    public void add(final Signature signature) {
+        if (Objects.isNull(signature)) {
+            throw new IllegalArgumentException("signature cannot be null");
+        }
+
+        sum.add(signature);
+    }
+
+    /**
+     * Returns the aggregate of every Signature added so far, or the point at infinity if none was.
+     * Additions running concurrently with this call may or may not be included.
+     *
+     * @return The aggregated Signature.
+     */
+    public Signature result() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the aggregate of every Signature added so far and starts over from an empty aggregate.
+     * Each concurrent addition is included either in the returned aggregate or in the next one.
+     *
+     * @return The aggregated Signature.
+     */
+    public Signature resultThenReset() {
+        return sum.sumThenReset();
+    }
+}
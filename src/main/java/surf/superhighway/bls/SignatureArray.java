@@ -0,0 +1,102 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import supranational.blst.P2;
+
+import java.util.List;
+
+/**
+ * A compact, immutable sequence of signatures stored as their compressed encodings in one contiguous array.
+ * <p>
+ * Holding N signatures costs a single {@code byte[]} of N * Signature.SIZE bytes instead of N {@link Signature} objects with
+ * their native points. Elements are only decoded when they are used, and transient decoded points are dropped
+ * right away. An array built with {@link #fromBytes(Bytes)} or {@link #of(List)} is validated as a whole, so the
+ * signatures it hands out skip the subgroup check.
+ * </p>
+ */
+public final class SignatureArray extends PackedArray<Signature> {
+
+    private SignatureArray(byte[] encodings, boolean validated) {
+        super(encodings, Signature.SIZE, validated);
+    }
+
+    /**
+     * Builds an array from concatenated compressed encodings, decoding and subgroup-checking every element.
+     * The elements are checked in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param packed The concatenated encodings. They are copied.
+     * @return The validated array.
+     * @throws IllegalArgumentException if packed is null, its size is not a multiple of Signature.SIZE, or any element is invalid.
+     */
+    public static SignatureArray fromBytes(final Bytes packed) {
+        SignatureArray array = fromBytesUnchecked(packed);
+        if (!array.isValid()) {
+            throw new IllegalArgumentException("SignatureArray contains an invalid signature");
+        }
+
+        return array;
+    }
+
+    /**
+     * Builds an array from concatenated compressed encodings without decoding them.
+     * Invalid elements are only detected when they are used or by {@link #isValid()}.
+     *
+     * @param packed The concatenated encodings. They are copied.
+     * @return The array.
+     * @throws IllegalArgumentException if packed is null or its size is not a multiple of Signature.SIZE.
+     */
+    public static SignatureArray fromBytesUnchecked(final Bytes packed) {
+        return new SignatureArray(copyPacked(packed, Signature.SIZE), false);
+    }
+
+    /**
+     * Packs the given signatures into an array.
+     *
+     * @param signatures The signatures to pack.
+     * @return The array, validated if every element was already known to be valid.
+     * @throws IllegalArgumentException if the list or any of its elements is null.
+     */
+    public static SignatureArray of(final List<Signature> signatures) {
+        byte[] encodings = pack(signatures, Signature.SIZE, "signatures", Signature::serialize);
+        return new SignatureArray(encodings, signatures.stream().allMatch(Signature::isValidated));
+    }
+
+    /**
+     * Returns the compressed encoding of an element without decoding it.
+     *
+     * @param index The index of the element.
+     * @return A read-only view of the encoding inside this array.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public Bytes getBytes(int index) {
+        return bytesAt(index);
+    }
+
+    @Override
+    Signature decode(int index, boolean validated) {
+        return new Signature(point(index), validated);
+    }
+
+    @Override
+    Signature aggregate(int from, int to, boolean validated) {
+        P2 aggregated = new P2();
+        for (int i = from; i < to; i++) {
+            aggregated.add(point(i));
+        }
+
+        return new Signature(aggregated, validated);
+    }
+
+    @Override
+    boolean isValidElement(Signature element) {
+        return element.isValid();
+    }
+
+    private P2 point(int index) {
+        try {
+            return new P2(encodingAt(index));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Signature at index " + index + " is invalid");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.units.bigints.UInt32;
 
 import java.util.List;
+import java.util.Objects;
 
 public interface SignatureScheme {
 
@@ -66,6 +67,42 @@ public interface SignatureScheme {
      */
     boolean aggregateVerify(final List<PublicKey> publicKeys, final List<Bytes> messages, final Signature signature) throws IllegalArgumentException;
 
+    /**
+     * Verifies a batch of independent signatures, each over its own message and public key.
+     * The default implementation verifies every triple with {@link #verify(PublicKey, Bytes, Signature)};
+     * implementations may settle the whole batch with a single multi-pairing instead.
+     *
+     * @param publicKeys The public keys of the signers.
+     * @param messages   The signed messages. The order of messages should match the order of public keys.
+     * @param signatures The signatures to verify. The order of signatures should match the order of public keys.
+     * @return Returns true if every signature in the batch is valid; false otherwise.
+     * @throws IllegalArgumentException If the sizes of the lists do not match or if any of the arguments is null.
+     */
+    default boolean verifyBatch(final List<PublicKey> publicKeys, final List<Bytes> messages, final List<Signature> signatures) throws IllegalArgumentException {
+        if (Objects.isNull(publicKeys)) {
+            throw new IllegalArgumentException("publicKey list cannot be null");
+        }
+
+        if (Objects.isNull(messages)) {
+            throw new IllegalArgumentException("message list cannot be null");
+        }
+
+        if (Objects.isNull(signatures)) {
+            throw new IllegalArgumentException("signature list cannot be null");
+        }
+
+        if (publicKeys.size() != messages.size() || publicKeys.size() != signatures.size()) {
+            throw new IllegalArgumentException("Mismatched sizes for public keys, messages and signatures");
+        }
+
+        for (int i = 0; i < publicKeys.size(); i++) {
+            if (!verify(publicKeys.get(i), messages.get(i), signatures.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Derives a child private key using the given parent private key and index, as per the EIP-2333 specification.
      *
@@ -0,0 +1,93 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * A long-lived handle signing with one private key under one scheme.
+ * <p>
+ * The public key, and the augmentation bytes the scheme derives from it, are resolved once when the handle is
+ * created, so every signature goes straight to hash-to-curve and the scalar multiplication. Handles are immutable
+ * and may be shared between threads. Obtain one with {@link CoreSignatureScheme#signer(PrivateKey)}.
+ * </p>
+ */
+public final class Signer {
+
+    private final CoreSignatureScheme scheme;
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final Bytes augmentation;
+
+    Signer(CoreSignatureScheme scheme, PrivateKey privateKey) {
+        this.scheme = scheme;
+        this.privateKey = privateKey;
+        this.publicKey = privateKey.getPublicKey();
+        this.augmentation = scheme.augmentation(publicKey);
+    }
+
+    /**
+     * Signs a message, with the same result as the scheme's {@code sign(privateKey, message)}.
+     *
+     * @param message The message to sign.
+     * @return The {@link Signature} of the message.
+     * @throws IllegalArgumentException if message is null.
+     */
+    public Signature sign(final Bytes message) {
+        if (Objects.isNull(message)) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+
+        return scheme.signAugmented(privateKey, message, augmentation);
+    }
+
+    /**
+     * Signs a message held in an array, which is handed to blst without copying.
+     *
+     * @param message The message to sign. It is not modified.
+     * @return The {@link Signature} of the message.
+     * @throws IllegalArgumentException if message is null.
+     */
+    public Signature sign(final byte[] message) {
+        return sign(CoreSignatureScheme.wrap(message));
+    }
+
+    /**
+     * Signs a slice of an array. A slice that does not span the whole array is copied once.
+     *
+     * @param message The array holding the message. It is not modified.
+     * @param offset  The index of the first byte of the message.
+     * @param length  The length of the message.
+     * @return The {@link Signature} of the message.
+     * @throws IllegalArgumentException if message is null or the slice is out of bounds.
+     */
+    public Signature sign(final byte[] message, int offset, int length) {
+        return sign(CoreSignatureScheme.wrap(message, offset, length));
+    }
+
+    /**
+     * Signs the remaining bytes of a buffer without changing its position.
+     *
+     * @param message The buffer holding the message.
+     * @return The {@link Signature} of the message.
+     * @throws IllegalArgumentException if message is null.
+     */
+    public Signature sign(final ByteBuffer message) {
+        return sign(CoreSignatureScheme.wrap(message));
+    }
+
+    /**
+     * @return The public key matching the signatures, already validated.
+     */
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * @return The scheme the handle signs under.
+     */
+    public CoreSignatureScheme getScheme() {
+        return scheme;
+    }
+}
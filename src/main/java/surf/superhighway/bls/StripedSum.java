@@ -0,0 +1,109 @@
+package surf.superhighway.bls;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collector;
+
+/**
+ * Partial sums spread over stripes, in the manner of {@link java.util.concurrent.atomic.LongAdder}.
+ * <p>
+ * Each stripe holds an accumulator of the given collector behind its own lock. A thread adds to the stripe
+ * picked by its id and moves on to the next stripe whenever that one is busy, so concurrent adders almost never
+ * wait for each other. The stripes are folded into a fresh accumulator only when the sum is read.
+ * </p>
+ *
+ * @param <T> The type of the summed elements.
+ * @param <A> The type of the collector's accumulator.
+ * @param <R> The type of the sum.
+ */
+final class StripedSum<T, A, R> {
+
+    private final Collector<T, A, R> collector;
+    private final Stripe<A>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    StripedSum(Collector<T, A, R> collector) {
+        this.collector = collector;
+
+        // Twice the processor count, rounded up to a power of two, keeps collisions between running threads rare
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>(collector.supplier().get());
+        }
+    }
+
+    void add(T element) {
+        int mask = stripes.length - 1;
+        int index = spread(Thread.currentThread().getId()) & mask;
+
+        // Probe for a free stripe once around, then wait on the home stripe
+        for (int attempt = 0; attempt < stripes.length; attempt++) {
+            Stripe<A> stripe = stripes[(index + attempt) & mask];
+            if (stripe.lock.tryLock()) {
+                try {
+                    collector.accumulator().accept(stripe.accumulator, element);
+                } finally {
+                    stripe.lock.unlock();
+                }
+                return;
+            }
+        }
+
+        Stripe<A> stripe = stripes[index];
+        stripe.lock.lock();
+        try {
+            collector.accumulator().accept(stripe.accumulator, element);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Folds the stripes into the current sum. Adds running concurrently may or may not be included.
+     */
+    R sum() {
+        A total = collector.supplier().get();
+        for (Stripe<A> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total = collector.combiner().apply(total, stripe.accumulator);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return collector.finisher().apply(total);
+    }
+
+    /**
+     * Folds the stripes into the current sum and starts every stripe over from zero.
+     */
+    R sumThenReset() {
+        A total = collector.supplier().get();
+        for (Stripe<A> stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                total = collector.combiner().apply(total, stripe.accumulator);
+                stripe.accumulator = collector.supplier().get();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        return collector.finisher().apply(total);
+    }
+
+    private static int spread(long threadId) {
+        int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9e3779b9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe<A> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private A accumulator;
+
+        Stripe(A accumulator) {
+            this.accumulator = accumulator;
+        }
+    }
+}
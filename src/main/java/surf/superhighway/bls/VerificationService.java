@@ -0,0 +1,280 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces single signature verifications submitted by many callers into batches.
+ * <p>
+ * Requests are collected into a window that closes once it holds {@code maxBatchSize} requests or
+ * {@code maxDelay} after its first request, whichever comes first. Each window is settled with one call to
+ * {@link SignatureScheme#verifyBatch(List, List, List)}. If a window contains an invalid signature, it is
+ * bisected so one bad signature does not fail its neighbours. Bisection stops after a few levels, and small
+ * halves are verified one signature at a time, which bounds the extra work a caller can cause by submitting
+ * invalid signatures.
+ * </p>
+ */
+public class VerificationService implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(2);
+
+    /**
+     * Halves of at most this many requests are verified one at a time instead of as a batch.
+     */
+    static final int INDIVIDUAL_VERIFY_THRESHOLD = 8;
+
+    /**
+     * The number of times a failed window is halved before its parts are verified one at a time.
+     */
+    static final int MAX_BISECTION_DEPTH = 2;
+
+    private final SignatureScheme scheme;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+
+    private final Object lock = new Object();
+    private List<Request> window = new ArrayList<>();
+    private ScheduledFuture<?> windowTimeout;
+    private long windowGeneration;
+    private boolean closed;
+
+    /**
+     * Creates a service with the default window size and delay, settling batches on the common {@link ForkJoinPool}.
+     *
+     * @param scheme The signature scheme used to verify requests.
+     * @throws IllegalArgumentException if scheme is null.
+     */
+    public VerificationService(final SignatureScheme scheme) {
+        this(scheme, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a service that settles batches on the common {@link ForkJoinPool}.
+     *
+     * @param scheme       The signature scheme used to verify requests.
+     * @param maxBatchSize The number of requests that closes a window immediately.
+     * @param maxDelay     The longest time a request waits for its window to close.
+     * @throws IllegalArgumentException if any of the arguments is null, or if maxBatchSize or maxDelay is not positive.
+     */
+    public VerificationService(final SignatureScheme scheme, int maxBatchSize, final Duration maxDelay) {
+        this(scheme, maxBatchSize, maxDelay, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a service.
+     *
+     * @param scheme       The signature scheme used to verify requests.
+     * @param maxBatchSize The number of requests that closes a window immediately.
+     * @param maxDelay     The longest time a request waits for its window to close.
+     * @param executor     The executor on which closed windows are settled.
+     * @throws IllegalArgumentException if any of the arguments is null, or if maxBatchSize or maxDelay is not positive.
+     */
+    public VerificationService(final SignatureScheme scheme, int maxBatchSize, final Duration maxDelay, final Executor executor) {
+        if (Objects.isNull(scheme)) {
+            throw new IllegalArgumentException("scheme cannot be null");
+        }
+
+        if (Objects.isNull(maxDelay)) {
+            throw new IllegalArgumentException("maxDelay cannot be null");
+        }
+
+        if (Objects.isNull(executor)) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+
+        if (maxDelay.isNegative() || maxDelay.isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+
+        this.scheme = scheme;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.executor = executor;
+
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "bls-verification-service");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        this.scheduler = timer;
+    }
+
+    /**
+     * Submits a signature for verification in the current window.
+     *
+     * @param publicKey the public key used for verification.
+     * @param message   the message whose signature is to be verified.
+     * @param signature the signature to be verified.
+     * @return A future completed with true if the signature is valid, false otherwise.
+     * @throws IllegalArgumentException if any of the arguments is null.
+     * @throws IllegalStateException    if the service has been closed.
+     */
+    public CompletableFuture<Boolean> submit(final PublicKey publicKey, final Bytes message, final Signature signature) {
+        if (Objects.isNull(publicKey)) {
+            throw new IllegalArgumentException("publicKey cannot be null");
+        }
+
+        if (Objects.isNull(message)) {
+            throw new IllegalArgumentException("message cannot be null");
+        }
+
+        if (Objects.isNull(signature)) {
+            throw new IllegalArgumentException("signature cannot be null");
+        }
+
+        Request request = new Request(publicKey, message, signature);
+        List<Request> closedWindow = null;
+
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("VerificationService has been closed");
+            }
+
+            window.add(request);
+
+            if (window.size() >= maxBatchSize) {
+                closedWindow = closeWindow();
+            } else if (window.size() == 1) {
+                long generation = windowGeneration;
+                windowTimeout = scheduler.schedule(() -> onWindowTimeout(generation), maxDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (Objects.nonNull(closedWindow)) {
+            dispatch(closedWindow);
+        }
+
+        return request.result;
+    }
+
+    /**
+     * Stops accepting requests and settles the requests of the current window.
+     * Windows that are already being settled complete normally.
+     */
+    @Override
+    public void close() {
+        List<Request> closedWindow;
+
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+            closedWindow = closeWindow();
+        }
+
+        scheduler.shutdownNow();
+        dispatch(closedWindow);
+    }
+
+    private void onWindowTimeout(long generation) {
+        List<Request> closedWindow;
+
+        synchronized (lock) {
+            // The window this timeout was scheduled for may have filled up and closed while the task started
+            if (generation != windowGeneration) {
+                return;
+            }
+            closedWindow = closeWindow();
+        }
+
+        dispatch(closedWindow);
+    }
+
+    /**
+     * Hands the current window over for settlement and starts an empty one. Must be called while holding the lock.
+     */
+    private List<Request> closeWindow() {
+        if (Objects.nonNull(windowTimeout)) {
+            windowTimeout.cancel(false);
+            windowTimeout = null;
+        }
+
+        List<Request> closedWindow = window;
+        window = new ArrayList<>();
+        windowGeneration++;
+
+        return closedWindow;
+    }
+
+    private void dispatch(final List<Request> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> settle(requests, 0));
+        } catch (RuntimeException e) {
+            requests.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private void settle(final List<Request> requests, int depth) {
+        try {
+            // The whole window is always tried as one batch; its failed parts only while they are large and shallow
+            if (requests.size() == 1 || depth > 0 && (requests.size() <= INDIVIDUAL_VERIFY_THRESHOLD || depth > MAX_BISECTION_DEPTH)) {
+                for (Request request : requests) {
+                    request.result.complete(scheme.verify(request.publicKey, request.message, request.signature));
+                }
+                return;
+            }
+
+            if (scheme.verifyBatch(publicKeys(requests), messages(requests), signatures(requests))) {
+                requests.forEach(request -> request.result.complete(true));
+                return;
+            }
+
+            // At least one invalid signature; bisect to find which ones
+            int middle = requests.size() / 2;
+            settle(requests.subList(0, middle), depth + 1);
+            settle(requests.subList(middle, requests.size()), depth + 1);
+        } catch (RuntimeException e) {
+            requests.forEach(request -> request.result.completeExceptionally(e));
+        }
+    }
+
+    private static List<PublicKey> publicKeys(List<Request> requests) {
+        return requests.stream().map(request -> request.publicKey).toList();
+    }
+
+    private static List<Bytes> messages(List<Request> requests) {
+        return requests.stream().map(request -> request.message).toList();
+    }
+
+    private static List<Signature> signatures(List<Request> requests) {
+        return requests.stream().map(request -> request.signature).toList();
+    }
+
+    private static final class Request {
+        private final PublicKey publicKey;
+        private final Bytes message;
+        private final Signature signature;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private Request(PublicKey publicKey, Bytes message, Signature signature) {
+            this.publicKey = publicKey;
+            this.message = message;
+            this.signature = signature;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package surf.superhighway.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, size-bounded cache that evicts entries according to an {@link EvictionPolicy}.
+ * <p>
+ * Entries are spread over independently locked segments, each holding an equal share of the capacity, so
+ * concurrent readers of different keys rarely contend. Eviction is therefore decided per segment.
+ * Hits, misses and evictions are counted to help size the cache.
+ * </p>
+ *
+ * @param <K> The type of the keys. Keys must not be mutated while in the cache.
+ * @param <V> The type of the cached values.
+ */
+public class BoundedCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_CAPACITY = 64;
+
+    private final int capacity;
+    private final EvictionPolicy evictionPolicy;
+    private final Segment<K, V>[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the given number of entries, evicting the least recently used ones.
+     *
+     * @param capacity The maximum number of entries.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public BoundedCache(int capacity) {
+        this(capacity, EvictionPolicy.LRU);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of entries.
+     *
+     * @param capacity       The maximum number of entries.
+     * @param evictionPolicy Which entries to evict when the cache is full.
+     * @throws IllegalArgumentException if capacity is not positive or evictionPolicy is null.
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedCache(int capacity, EvictionPolicy evictionPolicy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        if (Objects.isNull(evictionPolicy)) {
+            throw new IllegalArgumentException("evictionPolicy cannot be null");
+        }
+
+        this.capacity = capacity;
+        this.evictionPolicy = evictionPolicy;
+
+        // Small caches keep a single segment, so their eviction order is exact
+        int segmentCount = Math.max(1, Math.min(MAX_SEGMENTS, Integer.highestOneBit(capacity / MIN_SEGMENT_CAPACITY)));
+        int segmentCapacity = capacity / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = switch (evictionPolicy) {
+                case LRU -> new LruSegment<>(segmentCapacity, evictions);
+                case LFU -> new LfuSegment<>(segmentCapacity, evictions);
+            };
+        }
+    }
+
+    /**
+     * Looks up a cached value and counts the lookup as a hit or a miss.
+     *
+     * @param key The key to look up.
+     * @return The cached value, or null if the key is not cached.
+     * @throws IllegalArgumentException if key is null.
+     */
+    public V get(K key) {
+        if (Objects.isNull(key)) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+
+        V value = segmentFor(key).get(key);
+        if (Objects.isNull(value)) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return value;
+    }
+
+    /**
+     * Caches a value, evicting an entry of its segment if the segment is full.
+     *
+     * @param key   The key to cache the value under.
+     * @param value The value to cache.
+     * @throws IllegalArgumentException if key or value is null.
+     */
+    public void put(K key, V value) {
+        if (Objects.isNull(key)) {
+            throw new IllegalArgumentException("key cannot be null");
+        }
+
+        if (Objects.isNull(value)) {
+            throw new IllegalArgumentException("value cannot be null");
+        }
+
+        segmentFor(key).put(key, value);
+    }
+
+    /**
+     * Removes every entry. Statistics are kept.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return The number of cached entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return The maximum number of cached entries.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The policy deciding which entries are evicted.
+     */
+    public EvictionPolicy evictionPolicy() {
+        return evictionPolicy;
+    }
+
+    /**
+     * @return The number of lookups that found a cached value.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups that found no cached value.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entries evicted to make room for new ones.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return The fraction of lookups that were hits, or 0 if there were no lookups yet.
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private interface Segment<K, V> {
+
+        V get(K key);
+
+        void put(K key, V value);
+
+        void clear();
+
+        int size();
+    }
+
+    private static final class LruSegment<K, V> implements Segment<K, V> {
+
+        private final LinkedHashMap<K, V> entries;
+
+        LruSegment(int segmentCapacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > segmentCapacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public synchronized void put(K key, V value) {
+            entries.put(key, value);
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+        }
+
+        @Override
+        public synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Constant-time LFU: entries are grouped by read count, each group kept in insertion order.
+     */
+    private static final class LfuSegment<K, V> implements Segment<K, V> {
+
+        private final int segmentCapacity;
+        private final LongAdder evictions;
+        private final Map<K, Node<V>> entries = new HashMap<>();
+        private final Map<Long, LinkedHashSet<K>> frequencies = new HashMap<>();
+        private long minimumFrequency;
+
+        LfuSegment(int segmentCapacity, LongAdder evictions) {
+            this.segmentCapacity = segmentCapacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            Node<V> node = entries.get(key);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+
+            touch(key, node);
+            return node.value;
+        }
+
+        @Override
+        public synchronized void put(K key, V value) {
+            Node<V> node = entries.get(key);
+            if (Objects.nonNull(node)) {
+                node.value = value;
+                return;
+            }
+
+            if (entries.size() >= segmentCapacity) {
+                evict();
+            }
+
+            entries.put(key, new Node<>(value));
+            frequencies.computeIfAbsent(1L, frequency -> new LinkedHashSet<>()).add(key);
+            minimumFrequency = 1;
+        }
+
+        @Override
+        public synchronized void clear() {
+            entries.clear();
+            frequencies.clear();
+            minimumFrequency = 0;
+        }
+
+        @Override
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        private void touch(K key, Node<V> node) {
+            LinkedHashSet<K> keys = frequencies.get(node.frequency);
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                frequencies.remove(node.frequency);
+                if (minimumFrequency == node.frequency) {
+                    minimumFrequency++;
+                }
+            }
+
+            node.frequency++;
+            frequencies.computeIfAbsent(node.frequency, frequency -> new LinkedHashSet<>()).add(key);
+        }
+
+        private void evict() {
+            LinkedHashSet<K> keys = frequencies.get(minimumFrequency);
+            Iterator<K> oldest = keys.iterator();
+            K victim = oldest.next();
+            oldest.remove();
+            if (keys.isEmpty()) {
+                frequencies.remove(minimumFrequency);
+            }
+
+            entries.remove(victim);
+            evictions.increment();
+        }
+
+        private static final class Node<V> {
+            private V value;
+            private long frequency = 1;
+
+            Node(V value) {
+                this.value = value;
+            }
+        }
+    }
+}
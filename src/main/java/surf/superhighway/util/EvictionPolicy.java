@@ -0,0 +1,15 @@
+package surf.superhighway.util;
+
+/**
+ * Decides which entry a full {@link BoundedCache} segment gives up to make room for a new one.
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the entry that was read or written longest ago.
+     */
+    LRU,
+    /**
+     * Evicts the entry with the fewest reads, breaking ties by evicting the oldest of them.
+     */
+    LFU
+}
@@ -2,6 +2,7 @@ package surf.superhighway.bls;
 
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
 import org.junit.Test;
 
 import java.security.NoSuchAlgorithmException;
@@ -185,4 +186,31 @@ public class AggregateSignaturesTest {
         }
         assertTrue(augSchemeMPL.aggregateVerify(publicKeys, messages, aggregatedSignature));
     }
+
+    @Test
+    public void shouldAggregateWithoutRevalidating() {
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        Bytes message = Bytes.of(1, 2, 3);
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) i));
+            publicKeys.add(privateKey.getPublicKey());
+            signatures.add(basicSchemeMPL.sign(privateKey, message));
+        }
+
+        PublicKey aggregatedPublicKey = basicSchemeMPL.aggregatePublicKeys(publicKeys);
+        Signature aggregatedSignature = basicSchemeMPL.aggregateSignatures(signatures);
+        assertTrue(aggregatedPublicKey.isValidated());
+        assertTrue(aggregatedSignature.isValidated());
+        assertEquals(aggregatedPublicKey, PublicKey.fromBytes(aggregatedPublicKey.serialize()));
+        assertEquals(aggregatedPublicKey, publicKeys.stream().reduce(PublicKey.ZERO, PublicKey::add));
+        assertTrue(basicSchemeMPL.verify(aggregatedPublicKey, message, aggregatedSignature));
+
+        // Unchecked inputs are still rejected when the sum leaves the subgroup
+        String badPointHex = "0x8d5d0fb73b9c92df4eab4216e48c3e358578b4cc30f82c268bd6fef3bd34b558628daf1afef798d4c3b0fcd8b28c8973";
+        PublicKey badPublicKey = PublicKey.fromBytesUnchecked(Bytes48.fromHexString(badPointHex));
+        assertThrows(IllegalArgumentException.class, () -> basicSchemeMPL.aggregatePublicKeys(List.of(publicKeys.get(0), badPublicKey)));
+        assertFalse(basicSchemeMPL.aggregateSignatures(List.of(Signature.fromBytes(signatures.get(0).serialize()))).isValidated());
+    }
 }
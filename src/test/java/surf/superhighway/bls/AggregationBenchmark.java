@@ -0,0 +1,43 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import supranational.blst.P1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures public key and signature aggregation over a committee-sized list, comparing the previous
+ * compress, decompress and subgroup check round trip with the current projective sum.
+ */
+public class AggregationBenchmark {
+
+    private static final int COMMITTEE_SIZE = 10_000;
+    private static final int ITERATIONS = 20;
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        Bytes message = Bytes.of(1, 2, 3);
+
+        List<PublicKey> publicKeys = new ArrayList<>(COMMITTEE_SIZE);
+        List<Signature> signatures = new ArrayList<>(COMMITTEE_SIZE);
+        for (int i = 0; i < COMMITTEE_SIZE; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1L)));
+            publicKeys.add(PublicKey.fromBytes(privateKey.getPublicKey().serialize()));
+            signatures.add(scheme.sign(privateKey, message));
+        }
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("aggregatePublicKeys(" + COMMITTEE_SIZE + "), compress round trip", ITERATIONS, () -> {
+                P1 aggregated = publicKeys.stream().map(publicKey -> publicKey.point).reduce(new P1(), P1::add);
+                PublicKey.fromBytes(Bytes48.wrap(aggregated.compress()));
+            });
+            BenchmarkSupport.measure("aggregatePublicKeys(" + COMMITTEE_SIZE + "), projective sum", ITERATIONS,
+                    () -> scheme.aggregatePublicKeys(publicKeys));
+            BenchmarkSupport.measure("aggregateSignatures(" + COMMITTEE_SIZE + ")", ITERATIONS,
+                    () -> scheme.aggregateSignatures(signatures));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class AggregationCollectorsTest {
+
+    private static final int SIZE = 2_000;
+
+    @Test
+    public void shouldMatchSequentialAggregation() {
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        Bytes message = Bytes.of(4, 5, 6);
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x09));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = basicSchemeMPL.sign(privateKey, message);
+
+        // Distinct multiples of one key keep the setup cheap while exercising every combine
+        List<PublicKey> publicKeys = new ArrayList<>(SIZE);
+        List<Signature> signatures = new ArrayList<>(SIZE);
+        PublicKey nextPublicKey = publicKey;
+        Signature nextSignature = signature;
+        for (int i = 0; i < SIZE; i++) {
+            publicKeys.add(nextPublicKey);
+            signatures.add(nextSignature);
+            nextPublicKey = nextPublicKey.add(publicKey);
+            nextSignature = nextSignature.add(signature);
+        }
+
+        PublicKey expectedPublicKey = basicSchemeMPL.aggregatePublicKeys(publicKeys);
+        Signature expectedSignature = basicSchemeMPL.aggregateSignatures(signatures);
+
+        assertEquals(expectedPublicKey, publicKeys.parallelStream().collect(AggregationCollectors.toAggregatePublicKey()));
+        assertEquals(expectedSignature, signatures.parallelStream().collect(AggregationCollectors.toAggregateSignature()));
+        assertEquals(expectedPublicKey, publicKeys.stream().collect(AggregationCollectors.toAggregatePublicKey()));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expectedPublicKey, basicSchemeMPL.aggregatePublicKeysParallel(publicKeys, pool));
+            assertEquals(expectedSignature, basicSchemeMPL.aggregateSignaturesParallel(signatures, pool));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(expectedSignature, basicSchemeMPL.aggregateSignaturesParallel(signatures));
+        assertTrue(basicSchemeMPL.aggregatePublicKeysParallel(publicKeys).isValidated());
+
+        // Elements are never modified by the reduction
+        assertEquals(publicKey, publicKeys.get(0));
+        assertEquals(signature, signatures.get(0));
+    }
+
+    @Test
+    public void shouldAggregateEmptyStreamToInfinity() {
+        assertEquals(PublicKey.ZERO, List.<PublicKey>of().parallelStream().collect(AggregationCollectors.toAggregatePublicKey()));
+        assertEquals(Signature.ZERO, List.<Signature>of().stream().collect(AggregationCollectors.toAggregateSignature()));
+        assertThrows(IllegalArgumentException.class, () -> BasicSignatureScheme.getInstance().aggregateSignaturesParallel(List.of()));
+    }
+}
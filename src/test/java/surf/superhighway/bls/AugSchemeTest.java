@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -42,4 +43,28 @@ public class AugSchemeTest {
         Signature aggregatedSignature = augSchemeMPL.aggregateSignatures(List.of(signature1, signature2));
         assertTrue(augSchemeMPL.aggregateVerify(List.of(publicKey1, publicKey2), messages, aggregatedSignature));
     }
+
+    @Test
+    public void shouldSignTheConcatenatedMessageWithoutBuildingIt() {
+        MessageAugmentationSignatureScheme augSchemeMPL = MessageAugmentationSignatureScheme.getInstance();
+        PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) 0x06));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Bytes message = Bytes.of(1, 2, 3);
+
+        Signature concatenated = privateKey.signG2(Bytes.concatenate(publicKey.serialize(), message),
+                CipherSuiteID.BLS_SIG_AUG_SCHEME_MPL.getStringValue());
+        assertEquals(concatenated, augSchemeMPL.sign(privateKey, message));
+        assertTrue(augSchemeMPL.verifyBatch(List.of(publicKey), List.of(message), List.of(concatenated)));
+
+        HashToCurveCache cache = new HashToCurveCache(16);
+        augSchemeMPL.setHashToCurveCache(cache);
+        try {
+            assertEquals(concatenated, augSchemeMPL.sign(privateKey, message));
+            assertTrue(augSchemeMPL.verify(publicKey, message, concatenated));
+            assertTrue(augSchemeMPL.aggregateVerify(List.of(publicKey), List.of(message), concatenated));
+            assertEquals(1, cache.size());
+        } finally {
+            augSchemeMPL.setHashToCurveCache(null);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BatchVerifyTest {
+
+    private static final int BATCH_SIZE = 16;
+
+    private static void shouldVerifyBatch(CoreSignatureScheme scheme) {
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.repeat((byte) (i + 1)));
+            // Every other signer reuses the same message, which batches must allow
+            Bytes message = Bytes.of(1, 2, 3, i % 2 == 0 ? i : 0);
+
+            publicKeys.add(scheme.privateKeyToPublicKey(privateKey));
+            messages.add(message);
+            signatures.add(scheme.sign(privateKey, message));
+        }
+
+        assertTrue(scheme.verifyBatch(publicKeys, messages, signatures));
+
+        // Swapping two signatures keeps the aggregate intact but breaks both triples
+        List<Signature> swapped = new ArrayList<>(signatures);
+        swapped.set(0, signatures.get(1));
+        swapped.set(1, signatures.get(0));
+        assertFalse(scheme.verifyBatch(publicKeys, messages, swapped));
+
+        // Wrong message
+        List<Bytes> wrongMessages = new ArrayList<>(messages);
+        wrongMessages.set(BATCH_SIZE - 1, Bytes.of(9, 9, 9));
+        assertFalse(scheme.verifyBatch(publicKeys, wrongMessages, signatures));
+
+        // Wrong public key
+        List<PublicKey> wrongPublicKeys = new ArrayList<>(publicKeys);
+        wrongPublicKeys.set(3, publicKeys.get(4));
+        assertFalse(scheme.verifyBatch(wrongPublicKeys, messages, signatures));
+
+        assertTrue(scheme.verifyBatch(List.of(), List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> scheme.verifyBatch(publicKeys, messages, signatures.subList(1, BATCH_SIZE)));
+    }
+
+    @Test
+    public void shouldVerifyBatchUsingBasicScheme() {
+        shouldVerifyBatch(BasicSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldVerifyBatchUsingAugScheme() {
+        shouldVerifyBatch(MessageAugmentationSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldVerifyBatchUsingPopScheme() {
+        shouldVerifyBatch(ProofOfPossessionSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldRejectKeysLikeVerify() {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x06));
+        Bytes message = Bytes.of(1, 2, 3);
+        Signature signature = scheme.sign(privateKey, message);
+
+        // The off-subgroup point of PublicKeyTest, decoded without a group check
+        PublicKey badPublicKey = PublicKey.fromBytesUnchecked(Bytes48.fromHexString(
+                "0x8d5d0fb73b9c92df4eab4216e48c3e358578b4cc30f82c268bd6fef3bd34b558628daf1afef798d4c3b0fcd8b28c8973"));
+        assertEquals(scheme.verify(badPublicKey, message, signature),
+                scheme.verifyBatch(List.of(badPublicKey), List.of(message), List.of(signature)));
+        assertFalse(scheme.verifyBatch(List.of(privateKey.getPublicKey(), badPublicKey), List.of(message, message), List.of(signature, signature)));
+
+        PublicKey infinity = PublicKey.fromBytesUnchecked(Bytes48.fromHexString("0xc0" + "00".repeat(47)));
+        assertEquals(scheme.verify(infinity, message, Signature.ZERO),
+                scheme.verifyBatch(List.of(infinity), List.of(message), List.of(Signature.ZERO)));
+    }
+}
@@ -0,0 +1,82 @@
+package surf.superhighway.bls;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Minimal timing helpers shared by the {@code *Benchmark} mains in this package.
+ * <p>
+ * Benchmarks are plain programs rather than tests so that {@code mvn test} stays fast. Run one with
+ * {@code mvn test-compile} followed by {@code java -cp target/classes:target/test-classes:<dependencies> surf.superhighway.bls.<Name>Benchmark}.
+ * </p>
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+        throw new AssertionError("BenchmarkSupport class should not be instantiated.");
+    }
+
+    /**
+     * Runs a task a number of times untimed, then the same number of times timed, and prints the throughput.
+     *
+     * @param label      The name printed next to the result.
+     * @param iterations How many times the task runs per phase.
+     * @param task       The task to measure.
+     * @return The measured operations per second.
+     */
+    static double measure(String label, int iterations, Runnable task) {
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double opsPerSecond = iterations * 1e9 / elapsed;
+        report(label, opsPerSecond, elapsed / (double) iterations);
+
+        return opsPerSecond;
+    }
+
+    /**
+     * Prints one result line.
+     *
+     * @param label        The name printed next to the result.
+     * @param opsPerSecond The measured throughput.
+     * @param nanosPerOp   The measured average latency.
+     */
+    static void report(String label, double opsPerSecond, double nanosPerOp) {
+        System.out.printf(Locale.ROOT, "%-60s %14.1f ops/s %12.2f us/op%n", label, opsPerSecond, nanosPerOp / 1e3);
+    }
+
+    /**
+     * Runs a task a number of times untimed, then the same number of times measured, and prints the bytes the
+     * calling thread allocated per run. Needs a JVM that reports per-thread allocation, such as HotSpot.
+     *
+     * @param label      The name printed next to the result.
+     * @param iterations How many times the task runs per phase.
+     * @param task       The task to measure.
+     * @return The measured bytes allocated per run.
+     */
+    static double measureAllocation(String label, int iterations, Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        double bytesPerOp = (threads.getThreadAllocatedBytes(threadId) - before) / (double) iterations;
+
+        System.out.printf(Locale.ROOT, "%-60s %14.1f B/op%n", label, bytesPerOp);
+
+        return bytesPerOp;
+    }
+}
@@ -0,0 +1,111 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt32;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class ChildPublicKeyRangeTest {
+
+    private static final int COUNT = ChildPublicKeyRange.BATCH_SIZE + 44;
+    private static final int CHECKPOINT_HEADER_SIZE = 12 + PublicKey.SIZE;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static final BasicSignatureScheme SCHEME = BasicSignatureScheme.getInstance();
+
+    private static PublicKey parentKey(int seed) {
+        return BasicSignatureScheme.keygen(Bytes32.repeat((byte) seed)).getPublicKey();
+    }
+
+    private static List<PublicKey> deriveOneByOne(PublicKey parentKey, int from, int count) {
+        List<PublicKey> children = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            children.add(SCHEME.deriveChildPublicKeyUnhardened(parentKey, UInt32.valueOf(i)));
+        }
+        return children;
+    }
+
+    @Test
+    public void shouldDeriveRangesInOrder() {
+        PublicKey parentKey = parentKey(0x31);
+        assertEquals(deriveOneByOne(parentKey, 5, COUNT), SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.valueOf(5), COUNT).toList());
+        assertEquals(0, SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.valueOf(5), 0).count());
+        assertEquals(deriveOneByOne(parentKey, 0, 3), SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, COUNT).limit(3).toList());
+    }
+
+    @Test
+    public void shouldResumeFromCheckpoint() throws IOException {
+        PublicKey parentKey = parentKey(0x32);
+        Path checkpoint = temporaryFolder.newFile().toPath();
+
+        try (Stream<PublicKey> children = SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, COUNT, checkpoint)) {
+            assertEquals(deriveOneByOne(parentKey, 0, COUNT), children.toList());
+        }
+        assertEquals(CHECKPOINT_HEADER_SIZE + (long) COUNT * PublicKey.SIZE, Files.size(checkpoint));
+
+        // Simulate a crash in the middle of appending a record
+        try (FileChannel channel = FileChannel.open(checkpoint, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[7]));
+        }
+
+        try (Stream<PublicKey> children = SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.valueOf(10), COUNT, checkpoint)) {
+            assertEquals(deriveOneByOne(parentKey, 10, COUNT), children.toList());
+        }
+        assertEquals(CHECKPOINT_HEADER_SIZE + (long) (COUNT + 10) * PublicKey.SIZE, Files.size(checkpoint));
+    }
+
+    @Test
+    public void shouldRecoverFromATruncatedHeader() throws IOException {
+        PublicKey parentKey = parentKey(0x36);
+        Path checkpoint = temporaryFolder.newFile().toPath();
+        SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, 0, checkpoint).close();
+
+        // Simulate a crash while the header was being written
+        byte[] header = Files.readAllBytes(checkpoint);
+        Files.write(checkpoint, Arrays.copyOf(header, 20));
+
+        try (Stream<PublicKey> children = SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, 3, checkpoint)) {
+            assertEquals(deriveOneByOne(parentKey, 0, 3), children.toList());
+        }
+        assertEquals(CHECKPOINT_HEADER_SIZE + 3L * PublicKey.SIZE, Files.size(checkpoint));
+    }
+
+    @Test
+    public void shouldRejectACheckpointInUse() throws IOException {
+        PublicKey parentKey = parentKey(0x37);
+        Path checkpoint = temporaryFolder.newFile().toPath();
+
+        try (Stream<PublicKey> ignored = SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, 1, checkpoint)) {
+            assertThrows(IOException.class, () -> SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, 1, checkpoint));
+        }
+        SCHEME.deriveChildPublicKeysUnhardened(parentKey, UInt32.ZERO, 1, checkpoint).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void shouldRejectCheckpointOfAnotherParent() throws IOException {
+        Path checkpoint = temporaryFolder.newFile().toPath();
+        SCHEME.deriveChildPublicKeysUnhardened(parentKey(0x33), UInt32.ZERO, 1, checkpoint).close();
+        SCHEME.deriveChildPublicKeysUnhardened(parentKey(0x34), UInt32.ZERO, 1, checkpoint);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectRangesBeyondTheIndexSpace() {
+        SCHEME.deriveChildPublicKeysUnhardened(parentKey(0x35), UInt32.MAX_VALUE, 2);
+    }
+}
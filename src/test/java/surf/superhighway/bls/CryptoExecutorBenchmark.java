@@ -0,0 +1,78 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures verification throughput with 10k concurrent callers, calling blst directly versus offloading
+ * through {@link CryptoExecutor}.
+ * <p>
+ * Callers run on virtual threads when the JVM provides them (Java 21 and later), otherwise on a cached pool of
+ * platform threads.
+ * </p>
+ */
+public class CryptoExecutorBenchmark {
+
+    private static final int CALLERS = 10_000;
+
+    public static void main(String[] args) throws Exception {
+        MessageAugmentationSignatureScheme scheme = MessageAugmentationSignatureScheme.getInstance();
+        PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) 0x2a));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Bytes message = Bytes.of(1, 2, 3, 4, 5);
+        Signature signature = scheme.sign(privateKey, message);
+
+        System.out.println("Callers on " + (hasVirtualThreads() ? "virtual" : "platform") + " threads");
+
+        try (CryptoExecutor cryptoExecutor = new CryptoExecutor(scheme)) {
+            for (int round = 0; round < 2; round++) {
+                run("verify, direct blst call (" + CALLERS + " callers)", () -> scheme.verify(publicKey, message, signature));
+                run("verify, offloaded to CryptoExecutor (" + CALLERS + " callers)", () -> cryptoExecutor.verifyAsync(publicKey, message, signature).join());
+            }
+        }
+    }
+
+    private static void run(String label, Runnable call) throws Exception {
+        ExecutorService callers = newCallerExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>(CALLERS);
+            long start = System.nanoTime();
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(callers.submit(call));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            BenchmarkSupport.report(label, CALLERS * 1e9 / elapsed, elapsed / (double) CALLERS);
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    private static boolean hasVirtualThreads() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newCallerExecutor() throws Exception {
+        if (hasVirtualThreads()) {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        }
+
+        return Executors.newCachedThreadPool();
+    }
+}
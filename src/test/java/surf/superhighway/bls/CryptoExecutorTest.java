@@ -0,0 +1,34 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.Assert.*;
+
+public class CryptoExecutorTest {
+
+    @Test
+    public void shouldRunSchemeOperationsOnPool() {
+        MessageAugmentationSignatureScheme augScheme = MessageAugmentationSignatureScheme.getInstance();
+        PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) 0x03));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Bytes message = Bytes.of(1, 2, 3);
+
+        try (CryptoExecutor cryptoExecutor = new CryptoExecutor(augScheme, 2)) {
+            Signature signature = cryptoExecutor.signAsync(privateKey, message).join();
+            assertEquals(augScheme.sign(privateKey, message), signature);
+
+            assertTrue(cryptoExecutor.verifyAsync(publicKey, message, signature).join());
+            assertFalse(cryptoExecutor.verifyAsync(publicKey, Bytes.of(3, 2, 1), signature).join());
+            assertTrue(cryptoExecutor.aggregateVerifyAsync(List.of(publicKey), List.of(message), signature).join());
+            assertTrue(cryptoExecutor.verifyBatchAsync(List.of(publicKey), List.of(message), List.of(signature)).join());
+
+            // Argument errors surface through the future
+            assertThrows(CompletionException.class, () -> cryptoExecutor.verifyAsync(null, message, signature).join());
+        }
+    }
+}
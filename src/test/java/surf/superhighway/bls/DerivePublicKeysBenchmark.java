@@ -0,0 +1,42 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import supranational.blst.P1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares deriving the public keys of 10,000 freshly imported private keys one at a time, through the previous
+ * compress, decompress and subgroup check round trip, with {@link CoreSignatureScheme#derivePublicKeys(List)}.
+ */
+public class DerivePublicKeysBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        List<Bytes32> seeds = new ArrayList<>(KEY_COUNT);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            seeds.add(CoreSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1))).serialize());
+        }
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("previous round trip, sequential, " + KEY_COUNT + " keys", 1, () -> {
+                for (Bytes32 seed : seeds) {
+                    PrivateKey privateKey = PrivateKey.fromBytes(seed);
+                    PublicKey.fromBytes(Bytes48.wrap(new P1(privateKey.blstSecretKey).compress()));
+                }
+            });
+            BenchmarkSupport.measure("getPublicKey, sequential, " + KEY_COUNT + " keys", 1, () -> {
+                for (Bytes32 seed : seeds) {
+                    PrivateKey.fromBytes(seed).getPublicKey();
+                }
+            });
+            BenchmarkSupport.measure("derivePublicKeys, " + KEY_COUNT + " keys", 1,
+                    () -> scheme.derivePublicKeys(seeds.stream().map(PrivateKey::fromBytes).toList()));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DistinctMessageFilterTest {
+
+    @Test
+    public void shouldAcceptEachDistinctMessageOnce() {
+        // Start small so the table grows several times
+        DistinctMessageFilter filter = new DistinctMessageFilter(0, false);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.test(Bytes.ofUnsignedInt(i)));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(filter.test(Bytes.ofUnsignedInt(i)));
+        }
+        assertTrue(filter.test(Bytes.EMPTY));
+        assertFalse(filter.test(Bytes.EMPTY));
+    }
+
+    @Test
+    public void shouldCopyReusedMessagesWhenAsked() {
+        MutableBytes buffer = MutableBytes.create(4);
+        DistinctMessageFilter filter = new DistinctMessageFilter(4, true);
+        buffer.setInt(0, 1);
+        assertTrue(filter.test(buffer));
+        buffer.setInt(0, 2);
+        assertTrue(filter.test(buffer));
+        buffer.setInt(0, 1);
+        assertFalse(filter.test(buffer));
+    }
+
+    @Test
+    public void shouldRejectRepeatedMessagesWhileAggregating() {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1)));
+            Bytes message = Bytes.of(7, i % 2);
+            publicKeys.add(privateKey.getPublicKey());
+            messages.add(message);
+            signatures.add(scheme.sign(privateKey, message));
+        }
+        Signature aggregatedSignature = scheme.aggregateSignatures(signatures);
+
+        // The first and last messages are equal but held in different arrays
+        assertFalse(scheme.aggregateVerify(publicKeys, messages, aggregatedSignature));
+        assertFalse(scheme.aggregateVerifyParallel(publicKeys, messages, aggregatedSignature));
+        assertTrue(scheme.aggregateVerify(publicKeys.subList(0, 2), messages.subList(0, 2),
+                scheme.aggregateSignatures(signatures.subList(0, 2))));
+    }
+}
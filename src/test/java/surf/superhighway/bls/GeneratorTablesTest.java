@@ -0,0 +1,44 @@
+package surf.superhighway.bls;
+
+import org.junit.Test;
+import supranational.blst.P1;
+import supranational.blst.P2;
+import supranational.blst.Scalar;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class GeneratorTablesTest {
+
+    @Test
+    public void shouldMatchGenericMultiplication() {
+        Random random = new Random(22);
+        for (int i = 0; i < 20; i++) {
+            byte[] scalar = new byte[32];
+            random.nextBytes(scalar);
+            // Cover both the table and the fallback for scalars using the top bit
+            if (i % 2 == 0) {
+                scalar[31] &= 0x7f;
+            }
+
+            P1 expectedG1 = P1.generator().add(P1.generator().mult(new Scalar().from_lendian(scalar)));
+            assertTrue(expectedG1.is_equal(GeneratorTables.addG1Multiple(P1.generator(), scalar)));
+
+            P2 expectedG2 = P2.generator().add(P2.generator().mult(new Scalar().from_lendian(scalar)));
+            assertTrue(expectedG2.is_equal(GeneratorTables.addG2Multiple(P2.generator(), scalar)));
+        }
+    }
+
+    @Test
+    public void shouldHandleZeroAndSmallScalars() {
+        byte[] zero = new byte[32];
+        assertTrue(new P1().is_equal(GeneratorTables.addG1Multiple(new P1(), zero)));
+        assertTrue(new P2().is_equal(GeneratorTables.addG2Multiple(new P2(), zero)));
+
+        byte[] one = new byte[32];
+        one[0] = 1;
+        assertTrue(P1.generator().is_equal(GeneratorTables.addG1Multiple(new P1(), one)));
+        assertTrue(P2.generator().is_equal(GeneratorTables.addG2Multiple(new P2(), one)));
+    }
+}
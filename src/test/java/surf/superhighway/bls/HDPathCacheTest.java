@@ -0,0 +1,58 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt32;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HDPathCacheTest {
+
+    private static final PrivateKey MASTER = HDKeys.keygen(Bytes32.repeat((byte) 0x41));
+
+    private static PrivateKey deriveFromScratch(UInt32... path) {
+        PrivateKey node = MASTER;
+        for (UInt32 index : path) {
+            node = HDKeys.deriveChildSk(node, index);
+        }
+        return node;
+    }
+
+    @Test
+    public void shouldMatchLevelByLevelDerivation() {
+        UInt32[] farmer = {UInt32.valueOf(12381), UInt32.valueOf(8444), UInt32.valueOf(0), UInt32.valueOf(0)};
+        UInt32[] pool = {UInt32.valueOf(12381), UInt32.valueOf(8444), UInt32.valueOf(1), UInt32.valueOf(0)};
+
+        try (HDPathCache cache = new HDPathCache(MASTER, 16)) {
+            assertEquals(MASTER, cache.derive());
+            assertEquals(deriveFromScratch(farmer), cache.derive(farmer));
+            assertEquals(4, cache.size());
+
+            // Shares the first two levels, so only two new nodes are derived
+            assertEquals(deriveFromScratch(pool), cache.derive(pool));
+            assertEquals(6, cache.size());
+
+            assertEquals(deriveFromScratch(farmer), cache.derive(farmer));
+            assertEquals(6, cache.size());
+
+            cache.clear();
+            assertEquals(0, cache.size());
+            assertEquals(deriveFromScratch(pool), cache.derive(pool));
+        }
+    }
+
+    @Test
+    public void shouldStayWithinCapacity() {
+        HDPathCache cache = new HDPathCache(MASTER, 2);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(deriveFromScratch(UInt32.valueOf(i), UInt32.valueOf(7)), cache.derive(UInt32.valueOf(i), UInt32.valueOf(7)));
+        }
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.capacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullIndex() {
+        new HDPathCache(MASTER, 4).derive(UInt32.valueOf(1), null);
+    }
+}
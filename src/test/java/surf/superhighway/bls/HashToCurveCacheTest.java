@@ -0,0 +1,67 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class HashToCurveCacheTest {
+
+    @Test
+    public void shouldSignAndVerifyThroughCache() {
+        MessageAugmentationSignatureScheme augScheme = MessageAugmentationSignatureScheme.getInstance();
+        PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) 0x09));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Bytes message = Bytes.of(4, 5, 6);
+
+        Signature uncachedSignature = augScheme.sign(privateKey, message);
+
+        HashToCurveCache cache = new HashToCurveCache(8);
+        augScheme.setHashToCurveCache(cache);
+        try {
+            Signature cachedSignature = augScheme.sign(privateKey, message);
+            assertEquals(uncachedSignature, cachedSignature);
+            assertEquals(0, cache.hitCount());
+            assertEquals(1, cache.missCount());
+
+            assertTrue(augScheme.verify(publicKey, message, cachedSignature));
+            assertEquals(1, cache.hitCount());
+
+            // Wrong message and wrong signature still fail when served from the cache
+            assertFalse(augScheme.verify(publicKey, Bytes.of(6, 5, 4), cachedSignature));
+            assertFalse(augScheme.verify(publicKey, message, augScheme.sign(privateKey, Bytes.of(6, 5, 4))));
+            assertFalse(augScheme.verify(PublicKey.ZERO, message, cachedSignature));
+
+            assertEquals(0.5, cache.hitRate(CipherSuiteID.BLS_SIG_AUG_SCHEME_MPL), 1e-9);
+            assertEquals(0.0, cache.hitRate(CipherSuiteID.BLS_SIG_BASIC_SCHEME_MPL), 1e-9);
+            assertEquals(3, cache.size());
+        } finally {
+            augScheme.setHashToCurveCache(null);
+        }
+    }
+
+    @Test
+    public void shouldKeepCipherSuitesApart() {
+        BasicSignatureScheme basicScheme = BasicSignatureScheme.getInstance();
+        ProofOfPossessionSignatureScheme popScheme = ProofOfPossessionSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0a));
+        Bytes message = Bytes.of(1, 1, 1);
+
+        HashToCurveCache cache = new HashToCurveCache(8);
+        basicScheme.setHashToCurveCache(cache);
+        popScheme.setHashToCurveCache(cache);
+        try {
+            Signature basicSignature = basicScheme.sign(privateKey, message);
+            Signature popSignature = popScheme.sign(privateKey, message);
+
+            assertNotEquals(basicSignature, popSignature);
+            assertEquals(0, cache.hitCount());
+            assertTrue(basicScheme.verify(privateKey.getPublicKey(), message, basicSignature));
+            assertFalse(basicScheme.verify(privateKey.getPublicKey(), message, popSignature));
+        } finally {
+            basicScheme.setHashToCurveCache(null);
+            popScheme.setHashToCurveCache(null);
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package surf.superhighway.bls;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("SpellCheckingInspection")
 public class KeyGenTest {
@@ -30,4 +37,43 @@ public class KeyGenTest {
         assertEquals("0x8ee7ba56", pk.getFingerprintAsHexString());
         assertEquals("2397551190", pk.getFingerprintAsDecimalString());
     }
+
+    @Test
+    public void shouldDerivePublicKeysInBulk() {
+        List<PrivateKey> privateKeys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            privateKeys.add(CoreSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1))));
+        }
+        privateKeys.add(BasicSignatureScheme.keygen(Bytes32.fromHexString("0x08")));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            List<PublicKey> publicKeys = BasicSignatureScheme.getInstance().derivePublicKeys(privateKeys, pool);
+            assertEquals(privateKeys.size(), publicKeys.size());
+
+            // The key of testKeyGeneration, whose encoding is a known vector
+            assertEquals("0x8effb4415cc6d10a2d4006f342da08035731e1ffef53ebf98e1ad1702ecde3e3706c818abbb15f49c227daec9eb0bc11",
+                    publicKeys.get(privateKeys.size() - 1).serialize().toString());
+            for (int i = 0; i < privateKeys.size(); i++) {
+                PublicKey publicKey = publicKeys.get(i);
+                assertTrue(publicKey.isValidated());
+                // A fresh key instance computes its public key independently of the one derivePublicKeys used
+                PublicKey expected = PrivateKey.fromBytes(privateKeys.get(i).serialize()).getPublicKey();
+                assertNotSame(expected, publicKey);
+                assertEquals(expected.serialize(), publicKey.serialize());
+                assertEquals(expected, publicKey);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(BasicSignatureScheme.getInstance().derivePublicKeys(List.of()).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullPrivateKeyWhenDerivingInBulk() {
+        List<PrivateKey> privateKeys = new ArrayList<>();
+        privateKeys.add(null);
+        BasicSignatureScheme.getInstance().derivePublicKeys(privateKeys);
+    }
 }
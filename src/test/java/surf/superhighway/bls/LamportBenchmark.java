@@ -0,0 +1,48 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt32;
+import surf.superhighway.util.Util;
+
+/**
+ * Measures Lamport public key computations per second and heap allocated per computation, comparing the previous
+ * concatenating implementation with the streaming {@link HDKeys#parentSKToLamportPK(PrivateKey, UInt32)}.
+ */
+public class LamportBenchmark {
+
+    private static final int ITERATIONS = 2_000;
+
+    public static void main(String[] args) {
+        PrivateKey parentPrivateKey = HDKeys.keygen(Bytes32.repeat((byte) 0x25));
+        UInt32 index = UInt32.valueOf(12381);
+
+        if (!previousLamportPK(parentPrivateKey, index).equals(HDKeys.parentSKToLamportPK(parentPrivateKey, index))) {
+            throw new AssertionError("implementations disagree");
+        }
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("previous parentSKToLamportPK", ITERATIONS, () -> previousLamportPK(parentPrivateKey, index));
+            BenchmarkSupport.measure("streaming parentSKToLamportPK", ITERATIONS, () -> HDKeys.parentSKToLamportPK(parentPrivateKey, index));
+            BenchmarkSupport.measureAllocation("previous parentSKToLamportPK", ITERATIONS, () -> previousLamportPK(parentPrivateKey, index));
+            BenchmarkSupport.measureAllocation("streaming parentSKToLamportPK", ITERATIONS, () -> HDKeys.parentSKToLamportPK(parentPrivateKey, index));
+        }
+    }
+
+    private static Bytes32 previousLamportPK(PrivateKey parentPrivateKey, UInt32 index) {
+        UInt32 outputLength = UInt32.valueOf(HDKeys.HASH_LENGTH * 255);
+        Bytes salt = Util.intTofourBytes(index);
+        Bytes ikm = parentPrivateKey.serialize();
+        Bytes lamport0 = HKDF.ExtractExpand(salt, ikm, Bytes.EMPTY, outputLength);
+        Bytes lamport1 = HKDF.ExtractExpand(salt, ikm.not(), Bytes.EMPTY, outputLength);
+
+        Bytes lamportPK = Bytes.EMPTY;
+        for (int i = 0; i < 255; i++) {
+            lamportPK = Bytes.concatenate(lamportPK, Util.hash256(lamport0.slice(i * HDKeys.HASH_LENGTH, HDKeys.HASH_LENGTH)));
+        }
+        for (int i = 0; i < 255; i++) {
+            lamportPK = Bytes.concatenate(lamportPK, Util.hash256(lamport1.slice(i * HDKeys.HASH_LENGTH, HDKeys.HASH_LENGTH)));
+        }
+        return Util.hash256(lamportPK);
+    }
+}
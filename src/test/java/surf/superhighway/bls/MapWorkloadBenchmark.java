@@ -0,0 +1,66 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import surf.superhighway.util.Util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures map-heavy workloads on keys: hash map lookups, fingerprints and private key equality, comparing the
+ * previous per-call serialization and hashing with the cached values.
+ */
+public class MapWorkloadBenchmark {
+
+    private static final int KEYS = 1_000;
+    private static final int ROUNDS = 20;
+
+    public static void main(String[] args) {
+        List<PrivateKey> privateKeys = new ArrayList<>(KEYS);
+        List<PublicKey> publicKeys = new ArrayList<>(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1L)));
+            privateKeys.add(privateKey);
+            publicKeys.add(privateKey.getPublicKey());
+        }
+
+        Map<PublicKey, Integer> byPublicKey = new HashMap<>();
+        Map<PrivateKey, Integer> byPrivateKey = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            byPublicKey.put(publicKeys.get(i), i);
+            byPrivateKey.put(privateKeys.get(i), i);
+        }
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("previous PublicKey.hashCode x" + KEYS, ROUNDS, () -> {
+                for (PublicKey publicKey : publicKeys) {
+                    Arrays.hashCode(publicKey.point.serialize());
+                }
+            });
+            BenchmarkSupport.measure("HashMap<PublicKey> lookups x" + KEYS, ROUNDS, () -> {
+                for (PublicKey publicKey : publicKeys) {
+                    byPublicKey.get(publicKey);
+                }
+            });
+            BenchmarkSupport.measure("previous getFingerprint x" + KEYS, ROUNDS, () -> {
+                for (PublicKey publicKey : publicKeys) {
+                    Util.fourBytesToInt(Util.hash256(Bytes.wrap(publicKey.point.compress())));
+                }
+            });
+            BenchmarkSupport.measure("getFingerprint x" + KEYS, ROUNDS, () -> {
+                for (PublicKey publicKey : publicKeys) {
+                    publicKey.getFingerprint();
+                }
+            });
+            BenchmarkSupport.measure("HashMap<PrivateKey> lookups x" + KEYS, ROUNDS, () -> {
+                for (PrivateKey privateKey : privateKeys) {
+                    byPrivateKey.get(privateKey);
+                }
+            });
+        }
+    }
+}
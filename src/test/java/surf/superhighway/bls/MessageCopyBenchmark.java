@@ -0,0 +1,49 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import supranational.blst.BLST_ERROR;
+import supranational.blst.P2;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Measures heap allocated per sign and verify for a 1 KiB message, comparing the previous copying calls with the
+ * {@code byte[]}, slice and {@link ByteBuffer} overloads.
+ * <p>
+ * Allocation inside blst happens off-heap and is not counted, so the numbers isolate the Java-side copies.
+ * </p>
+ */
+public class MessageCopyBenchmark {
+
+    private static final int ITERATIONS = 2_000;
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        String dst = CipherSuiteID.BLS_SIG_BASIC_SCHEME_MPL.getStringValue();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0d));
+        PublicKey publicKey = privateKey.getPublicKey();
+
+        byte[] message = new byte[1024];
+        byte[] padded = new byte[1024 + 64];
+        Bytes messageBytes = Bytes.wrap(message);
+        ByteBuffer heapBuffer = ByteBuffer.wrap(message);
+        ByteBuffer directBuffer = ByteBuffer.allocateDirect(1024);
+        Signature signature = scheme.sign(privateKey, message);
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measureAllocation("sign, previous Bytes.toArray copy", ITERATIONS,
+                    () -> new Signature(P2.generator().hash_to(messageBytes.toArray(), dst, null).sign_with(privateKey.blstSecretKey)));
+            BenchmarkSupport.measureAllocation("sign(Bytes)", ITERATIONS, () -> scheme.sign(privateKey, messageBytes));
+            BenchmarkSupport.measureAllocation("sign(byte[])", ITERATIONS, () -> scheme.sign(privateKey, message));
+            BenchmarkSupport.measureAllocation("sign(byte[], offset, length)", ITERATIONS, () -> scheme.sign(privateKey, padded, 32, 1024));
+            BenchmarkSupport.measureAllocation("sign(heap ByteBuffer)", ITERATIONS, () -> scheme.sign(privateKey, heapBuffer));
+            BenchmarkSupport.measureAllocation("sign(direct ByteBuffer)", ITERATIONS, () -> scheme.sign(privateKey, directBuffer));
+
+            BenchmarkSupport.measureAllocation("verify, previous core_verify with toArray copy", ITERATIONS,
+                    () -> signature.point.to_affine().core_verify(publicKey.point.to_affine(), true, messageBytes.toArray(), dst).equals(BLST_ERROR.BLST_SUCCESS));
+            BenchmarkSupport.measureAllocation("verify(byte[])", ITERATIONS, () -> scheme.verify(publicKey, message, signature));
+            BenchmarkSupport.measureAllocation("verify(direct ByteBuffer)", ITERATIONS, () -> scheme.verify(publicKey, directBuffer, signature));
+        }
+    }
+}
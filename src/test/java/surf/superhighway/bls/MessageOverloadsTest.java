@@ -0,0 +1,54 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class MessageOverloadsTest {
+
+    private static void shouldMatchBytesOverloads(CoreSignatureScheme scheme) {
+        PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.repeat((byte) 0x0c));
+        PublicKey publicKey = privateKey.getPublicKey();
+        byte[] message = {1, 2, 3, 4, 5};
+        byte[] padded = {9, 9, 1, 2, 3, 4, 5, 9};
+        Signature expected = scheme.sign(privateKey, Bytes.wrap(message));
+
+        assertEquals(expected, scheme.sign(privateKey, message));
+        assertEquals(expected, scheme.sign(privateKey, padded, 2, 5));
+        assertEquals(expected, scheme.sign(privateKey, ByteBuffer.wrap(message)));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(8).put(padded);
+        direct.position(2).limit(7);
+        assertEquals(expected, scheme.sign(privateKey, direct));
+        assertEquals(2, direct.position());
+
+        assertTrue(scheme.verify(publicKey, message, expected));
+        assertTrue(scheme.verify(publicKey, padded, 2, 5, expected));
+        assertTrue(scheme.verify(publicKey, direct, expected));
+        assertFalse(scheme.verify(publicKey, padded, 1, 5, expected));
+        assertTrue(scheme.aggregateVerify(List.of(publicKey), new byte[][]{message}, expected));
+
+        assertThrows(IllegalArgumentException.class, () -> scheme.sign(privateKey, padded, 4, 5));
+        assertThrows(IllegalArgumentException.class, () -> scheme.verify(publicKey, (byte[]) null, expected));
+    }
+
+    @Test
+    public void shouldMatchBytesOverloadsUsingBasicScheme() {
+        shouldMatchBytesOverloads(BasicSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldMatchBytesOverloadsUsingAugScheme() {
+        shouldMatchBytesOverloads(MessageAugmentationSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldMatchBytesOverloadsUsingPopScheme() {
+        shouldMatchBytesOverloads(ProofOfPossessionSignatureScheme.getInstance());
+    }
+}
@@ -0,0 +1,81 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelAggregateVerifyTest {
+
+    // Large enough to be split across several slices
+    private static final int PAIR_COUNT = 4 * CoreSignatureScheme.PARALLEL_MIN_SLICE_SIZE + 3;
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private static void shouldVerifyInParallel(CoreSignatureScheme scheme) {
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1)));
+            Bytes message = Bytes.concatenate(Bytes.of(7, 7), Bytes.ofUnsignedInt(i));
+
+            publicKeys.add(scheme.privateKeyToPublicKey(privateKey));
+            messages.add(message);
+            signatures.add(scheme.sign(privateKey, message));
+        }
+
+        Signature aggregatedSignature = scheme.aggregateSignatures(signatures);
+
+        assertTrue(scheme.aggregateVerify(publicKeys, messages, aggregatedSignature));
+        assertTrue(scheme.aggregateVerifyParallel(publicKeys, messages, aggregatedSignature, POOL));
+        assertTrue(scheme.aggregateVerifyParallel(publicKeys, messages, aggregatedSignature));
+
+        // Wrong message in the last slice
+        List<Bytes> wrongMessages = new ArrayList<>(messages);
+        wrongMessages.set(PAIR_COUNT - 1, Bytes.of(1, 2, 3));
+        assertFalse(scheme.aggregateVerifyParallel(publicKeys, wrongMessages, aggregatedSignature, POOL));
+
+        // Missing signature share
+        Signature partialSignature = scheme.aggregateSignatures(signatures.subList(1, PAIR_COUNT));
+        assertFalse(scheme.aggregateVerifyParallel(publicKeys, messages, partialSignature, POOL));
+
+        assertTrue(scheme.aggregateVerifyParallel(List.of(), List.of(), Signature.ZERO, POOL));
+    }
+
+    @Test
+    public void shouldVerifyInParallelUsingBasicScheme() {
+        BasicSignatureScheme basicScheme = BasicSignatureScheme.getInstance();
+        shouldVerifyInParallel(basicScheme);
+
+        // Duplicate messages are rejected before any pairing work starts
+        PrivateKey privateKey1 = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x01));
+        PrivateKey privateKey2 = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x02));
+        Bytes message = Bytes.of(1, 2, 3);
+        Signature aggregatedSignature = basicScheme.aggregateSignatures(List.of(basicScheme.sign(privateKey1, message), basicScheme.sign(privateKey2, message)));
+        assertFalse(basicScheme.aggregateVerifyParallel(List.of(privateKey1.getPublicKey(), privateKey2.getPublicKey()), List.of(message, message), aggregatedSignature, POOL));
+    }
+
+    @Test
+    public void shouldVerifyInParallelUsingAugScheme() {
+        shouldVerifyInParallel(MessageAugmentationSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldVerifyInParallelUsingPopScheme() {
+        shouldVerifyInParallel(ProofOfPossessionSignatureScheme.getInstance());
+    }
+}
@@ -0,0 +1,50 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how signature and public key aggregation scale with list size, comparing the sequential sum, the
+ * fork/join tree reduction and the collectors under {@code parallelStream()}.
+ */
+public class ParallelAggregationBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 100_000};
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0a));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = scheme.sign(privateKey, Bytes.of(1, 2, 3));
+
+        // Multiples of one key and signature stand in for distinct committee members
+        List<PublicKey> allPublicKeys = new ArrayList<>();
+        List<Signature> allSignatures = new ArrayList<>();
+        PublicKey nextPublicKey = publicKey;
+        Signature nextSignature = signature;
+        for (int i = 0; i < SIZES[SIZES.length - 1]; i++) {
+            allPublicKeys.add(nextPublicKey);
+            allSignatures.add(nextSignature);
+            nextPublicKey = nextPublicKey.add(publicKey);
+            nextSignature = nextSignature.add(signature);
+        }
+
+        for (int size : SIZES) {
+            List<PublicKey> publicKeys = allPublicKeys.subList(0, size);
+            List<Signature> signatures = allSignatures.subList(0, size);
+            int iterations = Math.max(5, 200_000 / size);
+
+            BenchmarkSupport.measure("aggregateSignatures(" + size + ")", iterations, () -> scheme.aggregateSignatures(signatures));
+            BenchmarkSupport.measure("aggregateSignaturesParallel(" + size + ")", iterations, () -> scheme.aggregateSignaturesParallel(signatures));
+            BenchmarkSupport.measure("parallelStream toAggregateSignature (" + size + ")", iterations,
+                    () -> signatures.parallelStream().collect(AggregationCollectors.toAggregateSignature()));
+            BenchmarkSupport.measure("aggregatePublicKeys(" + size + ")", iterations, () -> scheme.aggregatePublicKeys(publicKeys));
+            BenchmarkSupport.measure("aggregatePublicKeysParallel(" + size + ")", iterations, () -> scheme.aggregatePublicKeysParallel(publicKeys));
+            BenchmarkSupport.measure("parallelStream toAggregatePublicKey (" + size + ")", iterations,
+                    () -> publicKeys.parallelStream().collect(AggregationCollectors.toAggregatePublicKey()));
+        }
+    }
+}
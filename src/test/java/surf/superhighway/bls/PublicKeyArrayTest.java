@@ -0,0 +1,67 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PublicKeyArrayTest {
+
+    private static final int SIZE = 10;
+
+    @Test
+    public void shouldPackAndDecodeKeysAndSignatures() {
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1)));
+            Bytes message = Bytes.ofUnsignedInt(i);
+            publicKeys.add(privateKey.getPublicKey());
+            messages.add(message);
+            signatures.add(basicSchemeMPL.sign(privateKey, message));
+        }
+
+        PublicKeyArray publicKeyArray = PublicKeyArray.of(publicKeys);
+        SignatureArray signatureArray = SignatureArray.of(signatures);
+        assertEquals(SIZE, publicKeyArray.size());
+        assertEquals(publicKeys.get(3).serialize(), publicKeyArray.getBytes(3));
+        assertEquals(publicKeys.get(3), publicKeyArray.get(3));
+        assertEquals(signatures.get(4), signatureArray.get(4));
+        assertTrue(publicKeyArray.get(0).isValidated());
+
+        // Round trip through the packed encoding validates in bulk
+        PublicKeyArray decoded = PublicKeyArray.fromBytes(publicKeyArray.toBytes());
+        assertTrue(decoded.isValid());
+        assertEquals(basicSchemeMPL.aggregatePublicKeys(publicKeys), decoded.aggregate());
+        assertEquals(basicSchemeMPL.aggregatePublicKeys(publicKeys.subList(2, 5)), decoded.aggregate(2, 5));
+        assertEquals(PublicKey.ZERO, decoded.aggregate(3, 3));
+
+        Signature aggregatedSignature = SignatureArray.fromBytes(signatureArray.toBytes()).aggregate();
+        assertEquals(basicSchemeMPL.aggregateSignatures(signatures), aggregatedSignature);
+        assertTrue(basicSchemeMPL.aggregateVerifyStreaming(decoded.stream(), messages.stream(), aggregatedSignature));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> publicKeyArray.get(SIZE));
+        assertThrows(IllegalArgumentException.class, () -> PublicKeyArray.fromBytes(Bytes.wrap(new byte[PublicKey.SIZE + 1])));
+    }
+
+    @Test
+    public void shouldRejectInvalidElements() {
+        String badPointHex = "0x8d5d0fb73b9c92df4eab4216e48c3e358578b4cc30f82c268bd6fef3bd34b558628daf1afef798d4c3b0fcd8b28c8973";
+        PublicKey publicKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x01)).getPublicKey();
+        Bytes packed = Bytes.concatenate(publicKey.serialize(), Bytes48.fromHexString(badPointHex));
+
+        assertThrows(IllegalArgumentException.class, () -> PublicKeyArray.fromBytes(packed));
+
+        PublicKeyArray unchecked = PublicKeyArray.fromBytesUnchecked(packed);
+        assertFalse(unchecked.isValid());
+        assertFalse(unchecked.get(1).isValid());
+        assertTrue(unchecked.get(0).isValid());
+    }
+}
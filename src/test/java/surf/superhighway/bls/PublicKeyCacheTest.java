@@ -0,0 +1,52 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.apache.tuweni.units.bigints.UInt32;
+import org.junit.Test;
+import surf.superhighway.util.EvictionPolicy;
+
+import static org.junit.Assert.*;
+
+public class PublicKeyCacheTest {
+
+    @Test
+    public void shouldInternValidatedPublicKeys() {
+        PublicKey publicKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0b)).getPublicKey();
+        byte[] encoding = publicKey.serialize().toArray();
+
+        PublicKeyCache cache = new PublicKeyCache(4, EvictionPolicy.LFU);
+        PublicKey first = cache.fromBytes(Bytes48.wrap(encoding));
+
+        // Reusing the caller's buffer must not corrupt the cached entry
+        encoding[47] ^= 1;
+        PublicKey second = cache.fromBytes(publicKey.serialize());
+
+        assertSame(first, second);
+        assertEquals(publicKey, first);
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(EvictionPolicy.LFU, cache.evictionPolicy());
+    }
+
+    @Test
+    public void shouldRejectInvalidPublicKeysWithoutCachingThem() {
+        Bytes48 badPoint = Bytes48.fromHexString("0x8d5d0fb73b9c92df4eab4216e48c3e358578b4cc30f82c268bd6fef3bd34b558628daf1afef798d4c3b0fcd8b28c8973");
+
+        PublicKeyCache cache = new PublicKeyCache(4);
+        assertThrows(IllegalArgumentException.class, () -> cache.fromBytes(badPoint));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNotChangeParentWhenDerivingFromInternedKey() {
+        BasicSignatureScheme basicScheme = BasicSignatureScheme.getInstance();
+        PublicKey publicKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0c)).getPublicKey();
+
+        PublicKeyCache cache = new PublicKeyCache(4);
+        PublicKey interned = cache.fromBytes(publicKey.serialize());
+        basicScheme.deriveChildPublicKeyUnhardened(interned, UInt32.valueOf(7));
+
+        assertEquals(publicKey, cache.fromBytes(publicKey.serialize()));
+    }
+}
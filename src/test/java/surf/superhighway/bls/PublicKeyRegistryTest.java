@@ -0,0 +1,138 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PublicKeyRegistryTest {
+
+    private static final int SIZE = 50;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static List<PublicKey> publicKeys() {
+        List<PublicKey> publicKeys = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            publicKeys.add(BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1))).getPublicKey());
+        }
+        return publicKeys;
+    }
+
+    private void shouldLookUpKeys(boolean includeUncompressed) throws IOException {
+        List<PublicKey> publicKeys = publicKeys();
+        Path path = temporaryFolder.newFile().toPath();
+        PublicKeyRegistry.write(path, publicKeys, includeUncompressed);
+
+        try (PublicKeyRegistry registry = PublicKeyRegistry.open(path)) {
+            assertEquals(SIZE, registry.size());
+            assertEquals(includeUncompressed, registry.hasUncompressed());
+
+            for (int i = 0; i < SIZE; i++) {
+                PublicKey publicKey = publicKeys.get(i);
+                assertEquals(publicKey.serialize(), registry.getBytes(i));
+                assertEquals(publicKey, registry.get(i));
+                assertEquals(i, registry.indexOf(publicKey.serialize()));
+                assertTrue(registry.findByFingerprint(publicKey.getFingerprint()).contains(publicKey));
+            }
+
+            assertFalse(registry.get(0).isValidated());
+            assertTrue(registry.get(0).isValid());
+
+            PublicKey unknown = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x77)).getPublicKey();
+            assertFalse(registry.contains(unknown));
+            assertEquals(-1, registry.indexOf(Bytes48.ZERO));
+            assertTrue(registry.findByFingerprint(unknown.getFingerprint()).isEmpty());
+        }
+
+        try (PublicKeyRegistry registry = PublicKeyRegistry.openTrusted(path)) {
+            assertTrue(registry.get(SIZE - 1).isValidated());
+        }
+    }
+
+    @Test
+    public void shouldLookUpCompressedKeys() throws IOException {
+        shouldLookUpKeys(false);
+    }
+
+    @Test
+    public void shouldLookUpUncompressedKeys() throws IOException {
+        shouldLookUpKeys(true);
+    }
+
+    @Test
+    public void shouldRejectForeignFiles() throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        Files.write(path, new byte[64]);
+
+        assertThrows(IOException.class, () -> PublicKeyRegistry.open(path));
+    }
+
+    @Test
+    public void shouldRejectCorruptIndexes() throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        List<PublicKey> publicKeys = publicKeys();
+        PublicKeyRegistry.write(path, publicKeys, false);
+        byte[] original = Files.readAllBytes(path);
+        int indexOffset = 24 + SIZE * PublicKey.SIZE;
+        int slotCount = (original.length - indexOffset) / 8;
+        PublicKey unknown = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x77)).getPublicKey();
+
+        // Every slot occupied: a lookup of a missing key must still stop after visiting each slot once
+        byte[] full = original.clone();
+        ByteBuffer fullIndex = ByteBuffer.wrap(full);
+        for (int slot = 0; slot < slotCount; slot++) {
+            fullIndex.putInt(indexOffset + slot * 8 + 4, 1);
+        }
+        Files.write(path, full);
+        try (PublicKeyRegistry registry = PublicKeyRegistry.open(path)) {
+            assertEquals(-1, registry.indexOf(unknown.serialize()));
+            assertTrue(registry.findByFingerprint(unknown.getFingerprint()).isEmpty());
+        }
+
+        // Entries pointing past the last key or below zero fail the lookups that reach them
+        for (int entry : new int[]{SIZE + 1, -3}) {
+            byte[] outOfRange = original.clone();
+            ByteBuffer outOfRangeIndex = ByteBuffer.wrap(outOfRange);
+            for (int slot = 0; slot < slotCount; slot++) {
+                outOfRangeIndex.putInt(indexOffset + slot * 8 + 4, entry);
+            }
+            Files.write(path, outOfRange);
+            try (PublicKeyRegistry registry = PublicKeyRegistry.open(path)) {
+                assertEquals(publicKeys.get(0), registry.get(0));
+                assertThrows(IllegalStateException.class, () -> registry.indexOf(publicKeys.get(0).serialize()));
+                assertThrows(IllegalStateException.class, () -> registry.findByFingerprint(publicKeys.get(0).getFingerprint()));
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectMismatchedUncompressedRecords() throws IOException {
+        Path path = temporaryFolder.newFile().toPath();
+        List<PublicKey> publicKeys = publicKeys();
+        PublicKeyRegistry.write(path, publicKeys, true);
+        int recordSize = PublicKey.SIZE + PublicKey.UNCOMPRESSED_SIZE;
+
+        // Give the first key the uncompressed encoding of the second
+        byte[] swapped = Files.readAllBytes(path);
+        System.arraycopy(swapped, 24 + recordSize + PublicKey.SIZE, swapped, 24 + PublicKey.SIZE, PublicKey.UNCOMPRESSED_SIZE);
+        Files.write(path, swapped);
+
+        try (PublicKeyRegistry registry = PublicKeyRegistry.open(path)) {
+            assertThrows(IllegalArgumentException.class, () -> registry.get(0));
+            assertEquals(publicKeys.get(1), registry.get(1));
+        }
+    }
+}
@@ -5,6 +5,8 @@ import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.bytes.Bytes48;
 import org.junit.Test;
 
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 public class PublicKeyTest {
@@ -29,4 +31,60 @@ public class PublicKeyTest {
         assertFalse(augSchemeMPL.verify(badPublicKey, message, signature));
         assertTrue(augSchemeMPL.verify(goodPublicKey, message, signature));
     }
+
+    @Test
+    public void shouldRememberValidation() {
+        String badPointHex = "0x8d5d0fb73b9c92df4eab4216e48c3e358578b4cc30f82c268bd6fef3bd34b558628daf1afef798d4c3b0fcd8b28c8973";
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x06));
+        Bytes message = Bytes.of(1, 2, 3);
+        Signature signature = basicSchemeMPL.sign(privateKey, message);
+
+        // Keys and signatures produced by this library are valid by construction
+        assertTrue(privateKey.getPublicKey().isValidated());
+        assertTrue(signature.isValidated());
+        assertTrue(PublicKey.fromBytes(privateKey.getPublicKey().serialize()).isValidated());
+
+        // Unchecked decoding defers the check until the first isValid
+        PublicKey unchecked = PublicKey.fromBytesUnchecked(privateKey.getPublicKey().serialize());
+        assertFalse(unchecked.isValidated());
+        assertTrue(basicSchemeMPL.verify(unchecked, message, signature));
+        assertTrue(unchecked.isValidated());
+
+        // A point outside the subgroup is never marked valid and is still rejected
+        PublicKey badPublicKey = PublicKey.fromBytesUnchecked(Bytes48.fromHexString(badPointHex));
+        assertFalse(badPublicKey.isValid());
+        assertFalse(badPublicKey.isValidated());
+        assertFalse(basicSchemeMPL.aggregateVerify(List.of(badPublicKey), List.of(message), signature));
+        assertFalse(basicSchemeMPL.aggregateVerifyParallel(List.of(badPublicKey), List.of(message), signature));
+
+        Signature uncheckedSignature = Signature.fromBytes(signature.serialize());
+        assertFalse(uncheckedSignature.isValidated());
+        assertTrue(basicSchemeMPL.aggregateVerify(List.of(privateKey.getPublicKey()), List.of(message), uncheckedSignature));
+        assertTrue(uncheckedSignature.isValidated());
+    }
+
+    @Test
+    public void shouldCacheEncodingsAndKeepEqualityConsistent() {
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x11));
+        PublicKey publicKey = privateKey.getPublicKey();
+
+        assertSame(publicKey, privateKey.getPublicKey());
+        assertSame(publicKey.serialize(), publicKey.serialize());
+        assertSame(publicKey.getFingerprint(), publicKey.getFingerprint());
+        assertEquals(publicKey.getFingerprint().toHexString(), publicKey.getFingerprintAsHexString());
+
+        // One side with a cached encoding, the other without, then both cached
+        PublicKey decoded = PublicKey.fromBytesUnchecked(publicKey.serialize());
+        assertEquals(publicKey, decoded);
+        decoded.serialize();
+        assertEquals(publicKey, decoded);
+        assertEquals(publicKey.hashCode(), decoded.hashCode());
+        assertNotEquals(publicKey, publicKey.negate());
+
+        PrivateKey samePrivateKey = PrivateKey.fromBytes(privateKey.serialize());
+        assertEquals(privateKey, samePrivateKey);
+        assertEquals(privateKey.hashCode(), samePrivateKey.hashCode());
+        assertNotEquals(privateKey, BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x12)));
+    }
 }
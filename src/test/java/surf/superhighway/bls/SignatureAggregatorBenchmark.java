@@ -0,0 +1,72 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures ingesting signatures from many threads at once, comparing a lock-guarded list aggregated at the end
+ * with {@link SignatureAggregator}.
+ */
+public class SignatureAggregatorBenchmark {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int PER_THREAD = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0b));
+        Signature signature = scheme.sign(privateKey, Bytes.of(1, 2, 3));
+
+        for (int round = 0; round < 3; round++) {
+            run("synchronized list + aggregateSignatures (" + THREADS + " threads)", () -> {
+                List<Signature> signatures = new ArrayList<>();
+                ingest(() -> {
+                    synchronized (signatures) {
+                        signatures.add(signature);
+                    }
+                });
+                return scheme.aggregateSignatures(signatures);
+            });
+            run("SignatureAggregator (" + THREADS + " threads)", () -> {
+                SignatureAggregator aggregator = new SignatureAggregator();
+                ingest(() -> aggregator.add(signature));
+                return aggregator.result();
+            });
+        }
+    }
+
+    private static void run(String label, Callable<Signature> ingestion) throws Exception {
+        long start = System.nanoTime();
+        ingestion.call();
+        long elapsed = System.nanoTime() - start;
+
+        long additions = (long) THREADS * PER_THREAD;
+        BenchmarkSupport.report(label, additions * 1e9 / elapsed, elapsed / (double) additions);
+    }
+
+    private static void ingest(Runnable add) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        add.run();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class SignatureAggregatorTest {
+
+    private static final int THREADS = 8;
+    private static final int PER_THREAD = 200;
+
+    @Test
+    public void shouldAggregateConcurrentAdds() throws Exception {
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        Bytes message = Bytes.of(7, 8, 9);
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 1; i <= THREADS; i++) {
+            PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) i));
+            publicKeys.add(privateKey.getPublicKey());
+            signatures.add(basicSchemeMPL.sign(privateKey, message));
+        }
+
+        SignatureAggregator signatureAggregator = new SignatureAggregator();
+        PublicKeyAggregator publicKeyAggregator = new PublicKeyAggregator();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Signature signature = signatures.get(t);
+                PublicKey publicKey = publicKeys.get(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        signatureAggregator.add(signature);
+                        publicKeyAggregator.add(publicKey);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Every thread added its own signature PER_THREAD times
+        List<Signature> expectedSignatures = new ArrayList<>();
+        List<PublicKey> expectedPublicKeys = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            for (int i = 0; i < PER_THREAD; i++) {
+                expectedSignatures.add(signatures.get(t));
+                expectedPublicKeys.add(publicKeys.get(t));
+            }
+        }
+
+        Signature aggregatedSignature = signatureAggregator.result();
+        PublicKey aggregatedPublicKey = publicKeyAggregator.result();
+        assertEquals(basicSchemeMPL.aggregateSignatures(expectedSignatures), aggregatedSignature);
+        assertEquals(basicSchemeMPL.aggregatePublicKeys(expectedPublicKeys), aggregatedPublicKey);
+        assertTrue(aggregatedSignature.isValidated());
+        assertTrue(basicSchemeMPL.verify(aggregatedPublicKey, message, aggregatedSignature));
+
+        assertEquals(aggregatedSignature, signatureAggregator.resultThenReset());
+        assertEquals(Signature.ZERO, signatureAggregator.result());
+        assertThrows(IllegalArgumentException.class, () -> signatureAggregator.add(null));
+    }
+}
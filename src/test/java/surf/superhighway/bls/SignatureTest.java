@@ -242,4 +242,20 @@ public class SignatureTest {
         Signature signature = MessageAugmentationSignatureScheme.getInstance().sign(privateKey, message);
         assertTrue(signature.isValid());
     }
+
+    @Test
+    public void shouldCacheAffineForms() {
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x08));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = BasicSignatureScheme.getInstance().sign(privateKey, Bytes.of(1, 2, 3));
+
+        assertSame(publicKey.toAffine(), publicKey.toAffine());
+        assertSame(signature.toAffine(), signature.toAffine());
+        assertArrayEquals(publicKey.point.compress(), publicKey.toAffine().compress());
+        assertArrayEquals(signature.point.compress(), signature.toAffine().compress());
+
+        // Derived values get their own affine form
+        assertArrayEquals(publicKey.negate().point.compress(), publicKey.negate().toAffine().compress());
+        assertTrue(BasicSignatureScheme.getInstance().verify(publicKey, Bytes.of(1, 2, 3), signature));
+    }
 }
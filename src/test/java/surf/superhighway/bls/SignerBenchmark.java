@@ -0,0 +1,29 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Compares aug-scheme signing through the scheme, with a fresh private key instance per call as when keys are
+ * loaded from storage, with a long-lived {@link Signer}.
+ */
+public class SignerBenchmark {
+
+    private static final int ITERATIONS = 2_000;
+
+    public static void main(String[] args) {
+        MessageAugmentationSignatureScheme scheme = MessageAugmentationSignatureScheme.getInstance();
+        PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) 0x23));
+        Bytes32 privateKeyBytes = privateKey.serialize();
+        Signer signer = scheme.signer(privateKey);
+        Bytes message = Bytes32.repeat((byte) 0x24);
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("sign, key loaded per call", ITERATIONS,
+                    () -> scheme.sign(PrivateKey.fromBytes(privateKeyBytes), message));
+            BenchmarkSupport.measure("sign, same PrivateKey", ITERATIONS, () -> scheme.sign(privateKey, message));
+            BenchmarkSupport.measure("Signer.sign", ITERATIONS, () -> signer.sign(message));
+            BenchmarkSupport.measureAllocation("Signer.sign", ITERATIONS, () -> signer.sign(message));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class SignerTest {
+
+    private static void shouldSignLikeTheScheme(CoreSignatureScheme scheme) {
+        PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.repeat((byte) 0x21));
+        Signer signer = scheme.signer(privateKey);
+        byte[] message = {4, 5, 6, 7};
+
+        assertSame(scheme, signer.getScheme());
+        assertEquals(scheme.privateKeyToPublicKey(privateKey), signer.getPublicKey());
+
+        Signature expected = scheme.sign(privateKey, Bytes.wrap(message));
+        assertEquals(expected, signer.sign(Bytes.wrap(message)));
+        assertEquals(expected, signer.sign(message));
+        assertEquals(expected, signer.sign(new byte[]{0, 4, 5, 6, 7, 0}, 1, 4));
+        assertEquals(expected, signer.sign(ByteBuffer.wrap(message)));
+        assertTrue(scheme.verify(signer.getPublicKey(), message, signer.sign(message)));
+    }
+
+    @Test
+    public void shouldSignLikeEachScheme() {
+        shouldSignLikeTheScheme(BasicSignatureScheme.getInstance());
+        shouldSignLikeTheScheme(MessageAugmentationSignatureScheme.getInstance());
+        shouldSignLikeTheScheme(ProofOfPossessionSignatureScheme.getInstance());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullKey() {
+        MessageAugmentationSignatureScheme.getInstance().signer(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNullMessage() {
+        PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.repeat((byte) 0x22));
+        MessageAugmentationSignatureScheme.getInstance().signer(privateKey).sign((Bytes) null);
+    }
+}
@@ -0,0 +1,74 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class StreamingAggregateVerifyTest {
+
+    private static final int PAIR_COUNT = 20;
+
+    private static void shouldVerifyStreamedPairs(CoreSignatureScheme scheme) {
+        List<PrivateKey> privateKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            PrivateKey privateKey = CoreSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1)));
+            Bytes message = Bytes.concatenate(Bytes.of(9, 9), Bytes.ofUnsignedInt(i));
+            privateKeys.add(privateKey);
+            messages.add(message);
+            signatures.add(scheme.sign(privateKey, message));
+        }
+        Signature aggregatedSignature = scheme.aggregateSignatures(signatures);
+
+        // Public keys are produced lazily, one per pulled element
+        Stream<PublicKey> publicKeys = IntStream.range(0, PAIR_COUNT).mapToObj(i -> scheme.privateKeyToPublicKey(privateKeys.get(i)));
+        assertTrue(scheme.aggregateVerifyStreaming(publicKeys, messages.stream(), aggregatedSignature));
+
+        List<PublicKey> publicKeyList = privateKeys.stream().map(scheme::privateKeyToPublicKey).toList();
+        assertTrue(scheme.aggregateVerifyStreaming(publicKeyList.iterator(), messages.iterator(), aggregatedSignature));
+
+        List<Bytes> reversedMessages = new ArrayList<>(messages);
+        Collections.reverse(reversedMessages);
+        assertFalse(scheme.aggregateVerifyStreaming(publicKeyList.iterator(), reversedMessages.iterator(), aggregatedSignature));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> scheme.aggregateVerifyStreaming(publicKeyList.stream(), messages.stream().skip(1), aggregatedSignature));
+        assertTrue(scheme.aggregateVerifyStreaming(Stream.empty(), Stream.empty(), Signature.ZERO));
+        assertFalse(scheme.aggregateVerifyStreaming(Stream.empty(), Stream.empty(), aggregatedSignature));
+    }
+
+    @Test
+    public void shouldVerifyStreamedPairsUsingBasicScheme() {
+        shouldVerifyStreamedPairs(BasicSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldVerifyStreamedPairsUsingAugScheme() {
+        shouldVerifyStreamedPairs(MessageAugmentationSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldVerifyStreamedPairsUsingPopScheme() {
+        shouldVerifyStreamedPairs(ProofOfPossessionSignatureScheme.getInstance());
+    }
+
+    @Test
+    public void shouldRejectRepeatedStreamedMessagesUsingBasicScheme() {
+        BasicSignatureScheme basicSchemeMPL = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey1 = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x01));
+        PrivateKey privateKey2 = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x02));
+        Bytes message = Bytes.of(1, 2, 3);
+        Signature aggregatedSignature = basicSchemeMPL.aggregateSignatures(List.of(basicSchemeMPL.sign(privateKey1, message), basicSchemeMPL.sign(privateKey2, message)));
+
+        assertFalse(basicSchemeMPL.aggregateVerifyStreaming(Stream.of(privateKey1.getPublicKey(), privateKey2.getPublicKey()), Stream.of(message, message), aggregatedSignature));
+    }
+}
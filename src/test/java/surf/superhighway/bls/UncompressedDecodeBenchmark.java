@@ -0,0 +1,36 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+
+/**
+ * Measures decoding public keys and signatures from compressed versus uncompressed encodings, with and without
+ * the subgroup check.
+ */
+public class UncompressedDecodeBenchmark {
+
+    private static final int ITERATIONS = 5_000;
+
+    public static void main(String[] args) {
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x10));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = BasicSignatureScheme.getInstance().sign(privateKey, Bytes.of(1, 2, 3));
+
+        Bytes48 publicKeyCompressed = publicKey.serialize();
+        Bytes publicKeyUncompressed = publicKey.serializeUncompressed();
+        Bytes signatureCompressed = signature.serialize();
+        Bytes signatureUncompressed = signature.serializeUncompressed();
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("PublicKey.fromBytesUnchecked (compressed)", ITERATIONS, () -> PublicKey.fromBytesUnchecked(publicKeyCompressed));
+            BenchmarkSupport.measure("PublicKey.fromBytesUncompressedUnchecked", ITERATIONS, () -> PublicKey.fromBytesUncompressedUnchecked(publicKeyUncompressed));
+            BenchmarkSupport.measure("PublicKey.fromBytes (compressed, validated)", ITERATIONS, () -> PublicKey.fromBytes(publicKeyCompressed));
+            BenchmarkSupport.measure("PublicKey.fromBytesUncompressed (validated)", ITERATIONS, () -> PublicKey.fromBytesUncompressed(publicKeyUncompressed));
+
+            BenchmarkSupport.measure("Signature.fromBytes (compressed, unchecked)", ITERATIONS, () -> Signature.fromBytes(signatureCompressed));
+            BenchmarkSupport.measure("Signature.fromBytesUncompressedUnchecked", ITERATIONS, () -> Signature.fromBytesUncompressedUnchecked(signatureUncompressed));
+            BenchmarkSupport.measure("Signature.fromBytesUncompressed (validated)", ITERATIONS, () -> Signature.fromBytesUncompressed(signatureUncompressed));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class UncompressedEncodingTest {
+
+    @Test
+    public void shouldRoundTripUncompressedEncodings() {
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0e));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = BasicSignatureScheme.getInstance().sign(privateKey, Bytes.of(1, 2, 3));
+
+        Bytes publicKeyBytes = publicKey.serializeUncompressed();
+        Bytes signatureBytes = signature.serializeUncompressed();
+        assertEquals(PublicKey.UNCOMPRESSED_SIZE, publicKeyBytes.size());
+        assertEquals(Signature.UNCOMPRESSED_SIZE, signatureBytes.size());
+
+        assertEquals(publicKey, PublicKey.fromBytesUncompressed(publicKeyBytes));
+        assertEquals(signature, Signature.fromBytesUncompressed(signatureBytes));
+        assertTrue(PublicKey.fromBytesUncompressed(publicKeyBytes).isValidated());
+        assertFalse(Signature.fromBytesUncompressedUnchecked(signatureBytes).isValidated());
+
+        assertEquals(PublicKey.ZERO, PublicKey.fromBytesUncompressed(PublicKey.ZERO.serializeUncompressed()));
+        assertEquals(Signature.ZERO, Signature.fromBytesUncompressed(Signature.ZERO.serializeUncompressed()));
+    }
+
+    @Test
+    public void shouldRejectMalformedUncompressedEncodings() {
+        PublicKey publicKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x0f)).getPublicKey();
+
+        // Compressed encodings, even padded to the right length, are refused
+        assertThrows(IllegalArgumentException.class, () -> PublicKey.fromBytesUncompressed(publicKey.serialize()));
+        assertThrows(IllegalArgumentException.class, () -> PublicKey.fromBytesUncompressed(Bytes.concatenate(publicKey.serialize(), Bytes48.ZERO)));
+
+        // A point off the curve
+        MutableBytes corrupted = publicKey.serializeUncompressed().mutableCopy();
+        corrupted.set(95, (byte) (corrupted.get(95) ^ 1));
+        assertThrows(IllegalArgumentException.class, () -> PublicKey.fromBytesUncompressedUnchecked(corrupted));
+        assertThrows(IllegalArgumentException.class, () -> Signature.fromBytesUncompressed(null));
+    }
+}
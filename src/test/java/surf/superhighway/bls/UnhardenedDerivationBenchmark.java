@@ -0,0 +1,41 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt32;
+import supranational.blst.P1;
+import supranational.blst.P2;
+import supranational.blst.Scalar;
+
+/**
+ * Measures one unhardened child public key and child signature derivation, comparing the generator tables of
+ * {@link GeneratorTables} with the generic variable-base multiplication they replace.
+ */
+public class UnhardenedDerivationBenchmark {
+
+    private static final int ITERATIONS = 5_000;
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x2a));
+        PublicKey publicKey = privateKey.getPublicKey();
+        Signature signature = scheme.sign(privateKey, Bytes.of(1, 2, 3));
+        byte[] nonce = Bytes32.repeat((byte) 0x3b).toArray();
+
+        // Build both tables outside the measurements
+        GeneratorTables.addG1Multiple(new P1(), nonce);
+        GeneratorTables.addG2Multiple(new P2(), nonce);
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("G1 generic mult", ITERATIONS, () -> P1.generator().mult(new Scalar().from_lendian(nonce)));
+            BenchmarkSupport.measure("G1 table", ITERATIONS, () -> GeneratorTables.addG1Multiple(new P1(), nonce));
+            BenchmarkSupport.measure("G2 generic mult", ITERATIONS, () -> P2.generator().mult(new Scalar().from_lendian(nonce)));
+            BenchmarkSupport.measure("G2 table", ITERATIONS, () -> GeneratorTables.addG2Multiple(new P2(), nonce));
+
+            BenchmarkSupport.measure("deriveChildPublicKeyUnhardened", ITERATIONS,
+                    () -> scheme.deriveChildPublicKeyUnhardened(publicKey, UInt32.valueOf(7)));
+            BenchmarkSupport.measure("deriveChildSignatureUnhardened", ITERATIONS,
+                    () -> scheme.deriveChildSignatureUnhardened(signature, UInt32.valueOf(7)));
+        }
+    }
+}
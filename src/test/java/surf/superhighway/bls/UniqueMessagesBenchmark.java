@@ -0,0 +1,52 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the previous {@link HashSet} uniqueness check of the basic scheme with {@link DistinctMessageFilter},
+ * in time and heap allocated per check of a whole batch of 32-byte messages.
+ */
+public class UniqueMessagesBenchmark {
+
+    private static final int[] MESSAGE_COUNTS = {10_000, 100_000};
+
+    public static void main(String[] args) {
+        for (int round = 0; round < 2; round++) {
+            for (int count : MESSAGE_COUNTS) {
+                List<Bytes> messages = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    messages.add(Bytes.concatenate(Bytes.repeat((byte) 0x5a, 28), Bytes.ofUnsignedInt(i)));
+                }
+                int iterations = 1_000_000 / count;
+
+                BenchmarkSupport.measure("HashSet<Bytes>, " + count + " messages", iterations, () -> hashSetCheck(messages));
+                BenchmarkSupport.measure("DistinctMessageFilter, " + count + " messages", iterations, () -> filterCheck(messages));
+                BenchmarkSupport.measureAllocation("HashSet<Bytes>, " + count + " messages", iterations, () -> hashSetCheck(messages));
+                BenchmarkSupport.measureAllocation("DistinctMessageFilter, " + count + " messages", iterations, () -> filterCheck(messages));
+            }
+        }
+    }
+
+    private static void hashSetCheck(List<Bytes> messages) {
+        Set<Bytes> seen = new HashSet<>();
+        for (Bytes message : messages) {
+            if (!seen.add(message)) {
+                throw new AssertionError("duplicate message");
+            }
+        }
+    }
+
+    private static void filterCheck(List<Bytes> messages) {
+        DistinctMessageFilter filter = new DistinctMessageFilter(messages.size(), false);
+        for (Bytes message : messages) {
+            if (!filter.test(message)) {
+                throw new AssertionError("duplicate message");
+            }
+        }
+    }
+}
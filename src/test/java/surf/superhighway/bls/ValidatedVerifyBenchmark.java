@@ -0,0 +1,71 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import supranational.blst.BLST_ERROR;
+import supranational.blst.PT;
+import supranational.blst.P2_Affine;
+import supranational.blst.Pairing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures what skipping repeated subgroup checks saves per verify, comparing the previous blst calls, which
+ * re-check both points every time, with the scheme methods on keys and signatures already known to be valid.
+ */
+public class ValidatedVerifyBenchmark {
+
+    private static final int ITERATIONS = 2_000;
+    private static final int AGGREGATE_SIZE = 64;
+
+    public static void main(String[] args) {
+        BasicSignatureScheme scheme = BasicSignatureScheme.getInstance();
+        String dst = CipherSuiteID.BLS_SIG_BASIC_SCHEME_MPL.getStringValue();
+
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x07));
+        PublicKey publicKey = PublicKey.fromBytes(privateKey.getPublicKey().serialize());
+        Bytes message = Bytes.of(1, 2, 3, 4, 5);
+        Signature signature = scheme.sign(privateKey, message);
+        signature.isValid();
+
+        List<PublicKey> publicKeys = new ArrayList<>(AGGREGATE_SIZE);
+        List<Bytes> messages = new ArrayList<>(AGGREGATE_SIZE);
+        List<Signature> signatures = new ArrayList<>(AGGREGATE_SIZE);
+        for (int i = 0; i < AGGREGATE_SIZE; i++) {
+            PrivateKey key = BasicSignatureScheme.keygen(Bytes32.repeat((byte) (i + 1)));
+            Bytes distinctMessage = Bytes.of(i, i + 1, i + 2);
+            publicKeys.add(PublicKey.fromBytes(key.getPublicKey().serialize()));
+            messages.add(distinctMessage);
+            signatures.add(scheme.sign(key, distinctMessage));
+        }
+        Signature aggregate = scheme.aggregateSignatures(signatures);
+        aggregate.isValid();
+
+        for (int round = 0; round < 2; round++) {
+            BenchmarkSupport.measure("verify, core_verify re-checking both points", ITERATIONS,
+                    () -> signature.point.to_affine().core_verify(publicKey.point.to_affine(), true, message.toArray(), dst));
+            BenchmarkSupport.measure("verify, checks skipped for validated points", ITERATIONS,
+                    () -> scheme.verify(publicKey, message, signature));
+
+            BenchmarkSupport.measure("aggregateVerify(" + AGGREGATE_SIZE + "), Pairing.aggregate per pair", ITERATIONS / AGGREGATE_SIZE + 1,
+                    () -> aggregateVerifyRechecking(publicKeys, messages, aggregate, dst));
+            BenchmarkSupport.measure("aggregateVerify(" + AGGREGATE_SIZE + "), checks skipped for validated points", ITERATIONS / AGGREGATE_SIZE + 1,
+                    () -> scheme.aggregateVerify(publicKeys, messages, aggregate));
+        }
+    }
+
+    private static boolean aggregateVerifyRechecking(List<PublicKey> publicKeys, List<Bytes> messages, Signature signature, String dst) {
+        Pairing pairing = new Pairing(true, dst);
+        P2_Affine signatureAffine = signature.point.to_affine();
+
+        for (int i = 0; i < publicKeys.size(); i++) {
+            if (pairing.aggregate(publicKeys.get(i).point.to_affine(), signatureAffine, messages.get(i).toArray()) != BLST_ERROR.BLST_SUCCESS) {
+                return false;
+            }
+        }
+
+        pairing.commit();
+        return pairing.finalverify(new PT(signatureAffine));
+    }
+}
@@ -0,0 +1,90 @@
+package surf.superhighway.bls;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class VerificationServiceTest {
+
+    @Test
+    public void shouldSettleConcurrentRequestsIndividually() throws Exception {
+        MessageAugmentationSignatureScheme augScheme = MessageAugmentationSignatureScheme.getInstance();
+        int requestCount = 40;
+
+        List<PublicKey> publicKeys = new ArrayList<>();
+        List<Bytes> messages = new ArrayList<>();
+        List<Signature> signatures = new ArrayList<>();
+        for (int i = 0; i < requestCount; i++) {
+            PrivateKey privateKey = MessageAugmentationSignatureScheme.keygen(Bytes32.repeat((byte) (i + 1)));
+            Bytes message = Bytes.of(5, 6, i);
+            publicKeys.add(privateKey.getPublicKey());
+            messages.add(message);
+            // Every seventh request carries a signature over a different message
+            signatures.add(augScheme.sign(privateKey, i % 7 == 3 ? Bytes.of(0) : message));
+        }
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (VerificationService service = new VerificationService(augScheme, 16, Duration.ofMillis(5))) {
+            List<Future<CompletableFuture<Boolean>>> submissions = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                final int index = i;
+                submissions.add(callers.submit(() -> service.submit(publicKeys.get(index), messages.get(index), signatures.get(index))));
+            }
+
+            for (int i = 0; i < requestCount; i++) {
+                assertEquals("request " + i, i % 7 != 3, submissions.get(i).get().get());
+            }
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldAnswerEveryRequestOfAWindowFullOfInvalidSignatures() throws Exception {
+        BasicSignatureScheme basicScheme = BasicSignatureScheme.getInstance();
+        // Deep enough that bisection stops at the depth cap and the parts are verified one at a time
+        int requestCount = 4 * VerificationService.INDIVIDUAL_VERIFY_THRESHOLD << VerificationService.MAX_BISECTION_DEPTH;
+
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        try (VerificationService service = new VerificationService(basicScheme, requestCount, Duration.ofHours(1))) {
+            for (int i = 0; i < requestCount; i++) {
+                PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.leftPad(Bytes.ofUnsignedInt(i + 1)));
+                Bytes message = Bytes.of(8, i & 0xff, i >> 8);
+                // Every second signature is over a different message
+                Signature signature = basicScheme.sign(privateKey, i % 2 == 0 ? message : Bytes.of(0));
+                results.add(service.submit(privateKey.getPublicKey(), message, signature));
+            }
+
+            for (int i = 0; i < requestCount; i++) {
+                assertEquals("request " + i, i % 2 == 0, results.get(i).get());
+            }
+        }
+    }
+
+    @Test
+    public void shouldSettlePendingRequestsOnClose() throws Exception {
+        BasicSignatureScheme basicScheme = BasicSignatureScheme.getInstance();
+        PrivateKey privateKey = BasicSignatureScheme.keygen(Bytes32.repeat((byte) 0x02));
+        Bytes message = Bytes.of(1, 2, 3);
+        Signature signature = basicScheme.sign(privateKey, message);
+
+        VerificationService service = new VerificationService(basicScheme, 1000, Duration.ofHours(1));
+        CompletableFuture<Boolean> first = service.submit(privateKey.getPublicKey(), message, signature);
+        CompletableFuture<Boolean> second = service.submit(privateKey.getPublicKey(), Bytes.of(3, 2, 1), signature);
+        service.close();
+
+        assertTrue(first.get());
+        assertFalse(second.get());
+        assertThrows(IllegalStateException.class, () -> service.submit(privateKey.getPublicKey(), message, signature));
+    }
+}
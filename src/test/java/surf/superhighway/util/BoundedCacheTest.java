@@ -0,0 +1,63 @@
+package surf.superhighway.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(1);
+        cache.put(1, "one");
+        cache.put(2, "two");
+
+        assertNull(cache.get(1));
+        assertEquals("two", cache.get(2));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRate(), 1e-9);
+    }
+
+    @Test
+    public void shouldEvictLeastFrequentlyUsedEntries() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(2, EvictionPolicy.LFU);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+
+        // 2 has fewer reads than 1, so it makes room for 3
+        cache.put(3, "three");
+        assertEquals("one", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("three", cache.get(3));
+
+        // 3 has fewer reads than 1, so it makes room for 4
+        cache.put(4, "four");
+        assertNull(cache.get(3));
+        assertEquals("one", cache.get(1));
+        assertEquals("four", cache.get(4));
+        assertEquals(2, cache.evictionCount());
+    }
+
+    @Test
+    public void shouldNeverExceedCapacity() {
+        for (EvictionPolicy evictionPolicy : EvictionPolicy.values()) {
+            BoundedCache<Integer, Integer> cache = new BoundedCache<>(100, evictionPolicy);
+            for (int i = 0; i < 10_000; i++) {
+                cache.put(i, i);
+                cache.get(i / 2);
+            }
+
+            assertTrue(cache.size() <= cache.capacity());
+            assertEquals(10_000 - cache.size(), cache.evictionCount());
+
+            cache.clear();
+            assertEquals(0, cache.size());
+        }
+    }
+}